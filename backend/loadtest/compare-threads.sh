@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 vs 가상 스레드 처리량 / p99 비교
+# - 준비: k6 설치, ./gradlew bootJar, DB 등 application-local.yml 에 필요한 환경 변수, 게시글 POST_COUNT(기본 50)개 이상
+# - 실행: ./loadtest/compare-threads.sh   (backend 디렉터리 기준)
+# - 같은 jar / 같은 DB / 같은 요청 믹스로 VIRTUAL_THREADS 만 바꿔서 두 번 실행 -> loadtest/results/{platform,virtual}.json
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)
+PORT=${PORT:-8080}
+mkdir -p loadtest/results
+
+for MODE in platform virtual; do
+  if [ "$MODE" = "virtual" ]; then VIRTUAL=true; else VIRTUAL=false; fi
+
+  echo "> ${MODE} threads (VIRTUAL_THREADS=${VIRTUAL})"
+  VIRTUAL_THREADS=$VIRTUAL java -jar "$JAR" --server.port="$PORT" > "loadtest/results/${MODE}.log" 2>&1 &
+  APP_PID=$!
+  trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+  until curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; do
+    sleep 1
+  done
+
+  k6 run -q -e BASE_URL="http://localhost:${PORT}" -e LABEL="$MODE" loadtest/read-mix.js
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  trap - EXIT
+done
+
+echo "> 결과"
+cat loadtest/results/platform.json loadtest/results/virtual.json
@@ -0,0 +1,79 @@
+// 읽기 위주 요청 믹스 부하 테스트 (k6)
+// - 가상 스레드 / 플랫폼 스레드 모드 비교용: compare-threads.sh 가 두 모드로 각각 실행
+// - 단독 실행: k6 run -e BASE_URL=http://localhost:8080 -e LABEL=virtual loadtest/read-mix.js
+// - 결과: 처리량(http_reqs/s), 측정 구간 p99 -> loadtest/results/{LABEL}.json
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LABEL = __ENV.LABEL || 'run';
+const VUS = Number(__ENV.VUS || 400);          // 기본 Tomcat 스레드(200)보다 많은 동시 사용자
+const POST_COUNT = Number(__ENV.POST_COUNT || 50);
+
+export const options = {
+  scenarios: {
+    warmup: {
+      executor: 'constant-vus',
+      vus: 50,
+      duration: '20s',
+    },
+    measure: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: __ENV.DURATION || '60s',
+      startTime: '20s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    // 측정 구간만 따로 집계되도록 서브 메트릭 지정
+    'http_req_duration{scenario:measure}': ['p(99)<2000'],
+    'http_reqs{scenario:measure}': ['count>0'],
+    'http_req_failed{scenario:measure}': ['rate<0.01'],
+  },
+};
+
+function randomPostId() {
+  return 1 + Math.floor(Math.random() * POST_COUNT);
+}
+
+export default function () {
+  const postId = randomPostId();
+  const roll = Math.random();
+
+  let res;
+  if (roll < 0.4) {
+    res = http.get(`${BASE_URL}/api/posts/${postId}`, { tags: { name: 'post' } });
+  } else if (roll < 0.7) {
+    res = http.get(`${BASE_URL}/api/posts?page=0&size=10`, { tags: { name: 'posts' } });
+  } else if (roll < 0.9) {
+    res = http.get(`${BASE_URL}/api/posts/${postId}/comments?size=20`, { tags: { name: 'comments' } });
+  } else {
+    const ids = Array.from({ length: 10 }, randomPostId);
+    res = http.post(`${BASE_URL}/api/posts/likes/status`, JSON.stringify({ postIds: ids }), {
+      headers: { 'Content-Type': 'application/json' },
+      tags: { name: 'likeStatus' },
+    });
+  }
+
+  check(res, { 'status 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function handleSummary(data) {
+  const measured = (name) => data.metrics[`${name}{scenario:measure}`];
+  const duration = measured('http_req_duration').values;
+  const result = {
+    label: LABEL,
+    vus: VUS,
+    requests: measured('http_reqs').values.count,
+    throughput: measured('http_reqs').values.rate,
+    p50: duration['p(50)'],
+    p95: duration['p(95)'],
+    p99: duration['p(99)'],
+    failedRate: measured('http_req_failed').values.rate,
+  };
+  return {
+    stdout: `${JSON.stringify(result, null, 2)}\n`,
+    [`loadtest/results/${LABEL}.json`]: JSON.stringify(result, null, 2),
+  };
+}
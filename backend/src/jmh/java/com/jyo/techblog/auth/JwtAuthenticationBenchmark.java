@@ -0,0 +1,101 @@
+package com.jyo.techblog.auth;
+
+import com.jyo.techblog.domain.user.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건당 JWT 처리 비용
+ * - before: 기존 필터처럼 validateToken / getUserId / getRole 마다 파서를 새로 만들고 서명 검증 (3회)
+ * - singleParse: 공유 파서로 한 번만 검증 (캐시 미스 경로)
+ * - cachedFilter: 필터 전체 (캐시 히트 -> SHA-256 다이제스트 + 조회 + SecurityContext 세팅)
+ * - generate: 로그인 시 Access Token 발급 (HS256 서명)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private Key key;
+    private String token;
+    private JwtTokenProvider provider;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        provider = new JwtTokenProvider(SECRET, 3_600_000);
+        filter = new JwtAuthenticationFilter(new JwtAuthenticationCache(provider, 10_000));
+        token = provider.generateAccessToken(1L, Role.USER);
+
+        request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object before() {
+        // validateToken
+        parseWithNewParser(token);
+        // getUserId
+        Long userId = Long.parseLong(parseWithNewParser(token).getSubject());
+        // getRole
+        Role role = Role.valueOf(parseWithNewParser(token).get("role", String.class));
+        return userId + role.name();
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return provider.parse(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generateAccessToken(1L, Role.USER);
+    }
+
+    @Benchmark
+    public Object cachedFilter() throws ServletException, IOException {
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
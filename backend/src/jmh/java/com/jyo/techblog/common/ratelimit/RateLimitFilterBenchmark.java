@@ -0,0 +1,83 @@
+package com.jyo.techblog.common.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 필터가 요청 한 건에 더하는 비용 (목표: 1µs 미만)
+ * - unmatchedRoute: 규칙에 안 걸리는 GET (경로 매칭만)
+ * - sameClient: 같은 IP 반복 (버킷 조회 + CAS, 거절되지 않도록 capacity 크게)
+ * - distinctClients: IP 10만 개를 돌아가며 (버킷 생성/조회, 캐시 크기 유지)
+ * - 4스레드 동시 실행 -> 같은 버킷 CAS 경합 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+
+    private static final int CLIENTS = 100_000;
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private RateLimitFilter filter;
+    private MockHttpServletRequest unmatched;
+    private MockHttpServletRequest sameClient;
+    private MockHttpServletRequest[] distinct;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RateLimiter rateLimiter = new RateLimiter(Duration.ofMinutes(1),
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 1_000_000);
+        filter = new RateLimitFilter(rateLimiter);
+
+        unmatched = new MockHttpServletRequest("GET", "/api/posts/1");
+        unmatched.setServletPath("/api/posts/1");
+        sameClient = like("1.1.1.1");
+        distinct = new MockHttpServletRequest[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            distinct[i] = like("10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff));
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void unmatchedRoute() throws ServletException, IOException {
+        filter.doFilterInternal(unmatched, response, NOOP_CHAIN);
+    }
+
+    @Benchmark
+    public void sameClient() throws ServletException, IOException {
+        filter.doFilterInternal(sameClient, response, NOOP_CHAIN);
+    }
+
+    @Benchmark
+    public void distinctClients() throws ServletException, IOException {
+        filter.doFilterInternal(distinct[ThreadLocalRandom.current().nextInt(CLIENTS)], response, NOOP_CHAIN);
+    }
+
+    private static MockHttpServletRequest like(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/posts/1/likes");
+        request.setServletPath("/api/posts/1/likes");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jyo.techblog.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 IP 추출 (조회수/좋아요/요청 제한에서 매 요청 호출)
+ * - direct: 프록시 없음 (remoteAddr)
+ * - forwardedChain: X-Forwarded-For 가 있어도 읽지 않음 (RemoteIpValve 가 이미 remoteAddr 로 반영)
+ * - ipv6Loopback: ::1 -> 127.0.0.1 정규화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class IpUtilsBenchmark {
+
+    private MockHttpServletRequest direct;
+    private MockHttpServletRequest forwardedChain;
+    private MockHttpServletRequest ipv6Loopback;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new MockHttpServletRequest("GET", "/api/posts/1");
+        direct.setRemoteAddr("203.0.113.7");
+
+        forwardedChain = new MockHttpServletRequest("GET", "/api/posts/1");
+        forwardedChain.addHeader("X-Forwarded-For", "203.0.113.7, 198.51.100.10, 10.0.0.2, 10.0.0.1");
+        forwardedChain.setRemoteAddr("203.0.113.7");
+
+        ipv6Loopback = new MockHttpServletRequest("GET", "/api/posts/1");
+        ipv6Loopback.setRemoteAddr("0:0:0:0:0:0:0:1");
+    }
+
+    @Benchmark
+    public String direct() {
+        return IpUtils.getClientIp(direct);
+    }
+
+    @Benchmark
+    public String forwardedChain() {
+        return IpUtils.getClientIp(forwardedChain);
+    }
+
+    @Benchmark
+    public String ipv6Loopback() {
+        return IpUtils.getClientIp(ipv6Loopback);
+    }
+}
@@ -0,0 +1,143 @@
+package com.jyo.techblog.domain.post;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 1000건 일괄 저장: IDENTITY vs pooled 시퀀스 + JDBC 배치 (H2 인메모리)
+ * - identityPerRow: 기존 방식. id 를 DB 가 만들어서 Hibernate 가 행마다 INSERT 후 생성 키를 읽음 (배치 불가)
+ * - pooledBatch: 시퀀스 한 번에 id 50개를 받아 두고, INSERT 50개씩 addBatch/executeBatch
+ * - H2 는 같은 프로세스라 왕복 비용이 거의 없음 -> 네트워크 너머 MySQL 에서는 차이가 훨씬 큼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class PostInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    private Connection connection;
+    private Timestamp now;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:insert_bench;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS posts_identity");
+            ddl.execute("DROP TABLE IF EXISTS posts_pooled");
+            ddl.execute("DROP SEQUENCE IF EXISTS post_seq");
+            ddl.execute("""
+                    CREATE TABLE posts_identity (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        title VARCHAR(200) NOT NULL,
+                        content CLOB NOT NULL,
+                        author_id BIGINT NOT NULL,
+                        created_at TIMESTAMP NOT NULL
+                    )
+                    """);
+            ddl.execute("""
+                    CREATE TABLE posts_pooled (
+                        id BIGINT PRIMARY KEY,
+                        title VARCHAR(200) NOT NULL,
+                        content CLOB NOT NULL,
+                        author_id BIGINT NOT NULL,
+                        created_at TIMESTAMP NOT NULL
+                    )
+                    """);
+            ddl.execute("CREATE SEQUENCE post_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+        now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    // 매 반복마다 같은 크기의 빈 테이블에서 시작
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("TRUNCATE TABLE posts_identity");
+            ddl.execute("TRUNCATE TABLE posts_pooled");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO posts_identity (title, content, author_id, created_at) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledBatch() throws SQLException {
+        long nextId = 0;
+        long hiId = -1;
+        try (PreparedStatement sequence = connection.prepareStatement("SELECT NEXT VALUE FOR post_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO posts_pooled (id, title, content, author_id, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId > hiId) {
+                    try (ResultSet rs = sequence.executeQuery()) {
+                        rs.next();
+                        nextId = rs.getLong(1);
+                        hiId = nextId + ALLOCATION_SIZE - 1;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    private void bind(PreparedStatement insert, int from, int i) throws SQLException {
+        insert.setString(from, "제목" + i);
+        insert.setString(from + 1, "<p>본문" + i + "</p>");
+        insert.setLong(from + 2, i % 10 + 1);
+        insert.setTimestamp(from + 3, now);
+    }
+}
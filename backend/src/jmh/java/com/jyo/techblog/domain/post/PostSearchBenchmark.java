@@ -0,0 +1,156 @@
+package com.jyo.techblog.domain.post;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 검색: PostSearchIndex vs 기존 LIKE '%keyword%' 쿼리 (게시글 10만 건)
+ * - SQL 쪽은 기존 JPQL(searchByKeyword)이 만들던 페이지 조회 + COUNT 두 쿼리를 H2 인메모리 DB에 그대로 실행
+ * - 색인 쪽은 getPosts 와 같이 첫 페이지(6건) id + 전체 히트 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PostSearchBenchmark {
+
+    private static final int POST_COUNT = 100_000;
+    private static final int PAGE_SIZE = 6;
+
+    private static final String[] WORDS = {
+            "스프링", "자바", "트랜잭션", "인덱스", "캐시", "전략", "쿼리", "성능", "배포", "도커",
+            "영속성", "컨텍스트", "지연", "로딩", "테스트", "리팩토링", "동시성", "스레드", "락", "커넥션",
+            "spring", "boot", "hibernate", "jpa", "mysql", "redis", "kafka", "thread", "pool", "index",
+            "cache", "latency", "throughput", "gradle", "docker", "nginx", "jwt", "security", "filter", "s3"
+    };
+
+    @Param({"트랜잭션", "hibernate", "캐시 전략"})
+    private String keyword;
+
+    private PostSearchIndex index;
+    private Connection connection;
+    private PreparedStatement pageQuery;
+    private PreparedStatement countQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        index = new PostSearchIndex();
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:search_bench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS posts");
+            ddl.execute("""
+                    CREATE TABLE posts (
+                        id BIGINT PRIMARY KEY,
+                        title VARCHAR(200) NOT NULL,
+                        content CLOB NOT NULL,
+                        category_id BIGINT,
+                        deleted BOOLEAN NOT NULL,
+                        created_at TIMESTAMP NOT NULL
+                    )
+                    """);
+        }
+
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO posts (id, title, content, category_id, deleted, created_at) VALUES (?, ?, ?, ?, false, ?)")) {
+            for (int id = 1; id <= POST_COUNT; id++) {
+                String title = sentence(random, 5);
+                String content = "<p>" + sentence(random, 80) + "</p>";
+                long categoryId = 1 + random.nextInt(4);
+                LocalDateTime createdAt = base.plusMinutes(id);
+
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, content);
+                insert.setLong(4, categoryId);
+                insert.setTimestamp(5, Timestamp.valueOf(createdAt));
+                insert.addBatch();
+                if (id % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+
+                index.index(id, categoryId, createdAt, title, content);
+            }
+            insert.executeBatch();
+        }
+
+        pageQuery = connection.prepareStatement("""
+                SELECT id, title, content, category_id, created_at
+                FROM posts
+                WHERE deleted = false AND (title LIKE ? OR content LIKE ?)
+                ORDER BY created_at DESC
+                LIMIT ? OFFSET 0
+                """);
+        countQuery = connection.prepareStatement("""
+                SELECT COUNT(id)
+                FROM posts
+                WHERE deleted = false AND (title LIKE ? OR content LIKE ?)
+                """);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void likeQuery(Blackhole bh) throws SQLException {
+        String pattern = "%" + keyword + "%";
+
+        pageQuery.setString(1, pattern);
+        pageQuery.setString(2, pattern);
+        pageQuery.setInt(3, PAGE_SIZE);
+        try (ResultSet rs = pageQuery.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+            }
+        }
+
+        countQuery.setString(1, pattern);
+        countQuery.setString(2, pattern);
+        try (ResultSet rs = countQuery.executeQuery()) {
+            rs.next();
+            bh.consume(rs.getLong(1));
+        }
+    }
+
+    @Benchmark
+    public PostSearchIndex.Hits invertedIndex() {
+        return index.search(keyword, null, 0, PAGE_SIZE);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
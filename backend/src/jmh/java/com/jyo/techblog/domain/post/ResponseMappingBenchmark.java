@@ -0,0 +1,84 @@
+package com.jyo.techblog.domain.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jyo.techblog.domain.category.Category;
+import com.jyo.techblog.domain.comment.Comment;
+import com.jyo.techblog.domain.comment.dto.CommentResponse;
+import com.jyo.techblog.domain.post.dto.PostResponse;
+import com.jyo.techblog.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 + JSON 직렬화 (게시글/댓글 조회 응답마다 실행)
+ * - postResponseFrom: 본문 약 8KB 게시글 1건
+ * - commentResponsesFrom: 댓글 한 페이지(20건)
+ * - serializePostPage: Page<PostResponse>(10건) -> JSON (스프링 MVC 와 같은 설정의 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private static final int COMMENT_PAGE_SIZE = 20;
+    private static final int POST_PAGE_SIZE = 10;
+
+    private Post post;
+    private List<Comment> comments;
+    private Page<PostResponse> postPage;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User author = User.builder().id(1L).nickname("작성자").build();
+        Category category = Category.builder().id(1L).name("스프링").build();
+
+        String content = "<p>" + "트랜잭션 격리 수준과 락 전략 정리. ".repeat(300) + "</p>";
+        post = Post.builder().id(1L).title("JPA 성능 튜닝").content(content).author(author).category(category).build();
+
+        comments = new ArrayList<>(COMMENT_PAGE_SIZE);
+        for (int i = 0; i < COMMENT_PAGE_SIZE; i++) {
+            comments.add(Comment.of(post, author, "좋은 글 감사합니다 " + i));
+        }
+
+        List<PostResponse> responses = new ArrayList<>(POST_PAGE_SIZE);
+        for (int i = 0; i < POST_PAGE_SIZE; i++) {
+            responses.add(PostResponse.from(post));
+        }
+        postPage = new PageImpl<>(responses, PageRequest.of(0, POST_PAGE_SIZE), 1_000);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public PostResponse postResponseFrom() {
+        return PostResponse.from(post);
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentResponsesFrom() {
+        return comments.stream().map(CommentResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializePostPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postPage);
+    }
+}
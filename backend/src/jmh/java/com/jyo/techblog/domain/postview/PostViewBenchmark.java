@@ -0,0 +1,61 @@
+package com.jyo.techblog.domain.postview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 쿨타임 판단 (게시글 단건 조회마다 실행, DB 접근 X)
+ * - repeatedView: 같은 IP가 같은 글 재조회 -> 중복 판정 경로
+ * - distinctViews: 글 1000개 x IP 10만 개 무작위 -> 대부분 처음 보는 조회 (비트 세팅 + 버퍼 누적)
+ * - 4스레드 동시 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+public class PostViewBenchmark {
+
+    private static final int POSTS = 1_000;
+    private static final int CLIENTS = 100_000;
+
+    private PostViewService postViewService;
+    private String[] ips;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 운영 설정값과 동일 (쿨타임 10분, 10구간, 구간당 10만 조회, 오판율 0.1%)
+        ViewDedupWindow window = new ViewDedupWindow(Duration.ofMinutes(10), 10, 100_000, 0.001);
+        // increment 는 메모리 누적만 하므로 DB 없이 사용 (flush 는 호출하지 않음)
+        postViewService = new PostViewService(window, new ViewCountBuffer(null, null, null));
+
+        ips = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            ips[i] = "10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+        }
+        postViewService.increaseViewCountIfNeeded(1L, "203.0.113.7");
+    }
+
+    @Benchmark
+    public void repeatedView() {
+        postViewService.increaseViewCountIfNeeded(1L, "203.0.113.7");
+    }
+
+    @Benchmark
+    public void distinctViews() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        postViewService.increaseViewCountIfNeeded((long) random.nextInt(POSTS), ips[random.nextInt(CLIENTS)]);
+    }
+}
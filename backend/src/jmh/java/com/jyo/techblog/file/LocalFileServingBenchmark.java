@@ -0,0 +1,86 @@
+package com.jyo.techblog.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /files/** 서빙 처리량: LocalFileController vs 스프링 기본 정적 리소스 핸들러
+ * - 둘 다 MockHttpServletResponse(메모리)로 전송 -> 헤더/Range 처리 + 파일 -> 응답 복사 비용 비교
+ * - 실제 Tomcat 에서는 controller 가 sendfile 로 넘겨 복사 자체가 JVM 밖에서 일어남 (여기선 transferTo 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class LocalFileServingBenchmark {
+
+    @Param({"16384", "1048576"})
+    private int fileSize;
+
+    private Path dir;
+    private String key;
+    private LocalFileController controller;
+    private ResourceHttpRequestHandler resourceHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("files-bench");
+        LocalObjectStorage storage = new LocalObjectStorage(dir.toString(), "/files", DataSize.ofMegabytes(50));
+
+        byte[] content = new byte[fileSize];
+        new Random(fileSize).nextBytes(content);
+        key = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(content)).key();
+
+        controller = new LocalFileController(storage);
+
+        resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(dir.toString() + "/")));
+        resourceHandler.setServletContext(new MockServletContext());
+        resourceHandler.afterPropertiesSet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse localFileController() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(new MockHttpServletRequest("GET", "/files/" + key), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse staticResourceHandler() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/" + key);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, key);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        resourceHandler.handleRequest(request, response);
+        return response;
+    }
+}
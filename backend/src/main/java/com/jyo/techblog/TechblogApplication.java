@@ -3,8 +3,10 @@ package com.jyo.techblog;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing  // createdAt, updatedAt 자동 세팅을 위해 필요
+@EnableScheduling  // 조회수 일괄 반영 등 주기 작업
 @SpringBootApplication
 public class TechblogApplication {
 
@@ -0,0 +1,160 @@
+package com.jyo.techblog.auth;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 같은 느린 해시를 요청 스레드 대신 전용 풀에서 실행하는 PasswordEncoder
+ * - 동시에 해시하는 스레드 수(threads) + 대기열(queueCapacity) 상한 -> 로그인 폭주가 CPU 를 다 먹지 않게
+ * - 대기열이 가득 차거나 maxWait 안에 끝나지 않으면 바로 PasswordHashingBusyException (503)
+ *   -> 요청 스레드는 최대 threads + queueCapacity 개까지만 해시를 기다리며 묶임
+ * - 해시 소요 시간(password.hash), 대기열 길이, 거절 수를 Micrometer 로 노출
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait) {
+        this.delegate = delegate;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), true);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), false);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열의 cost 값만 비교 (CPU 작업 X)
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 현재 설정으로 해시 한 번 걸리는 시간을 재고, 예산을 넘으면 경고
+     * - cost(work factor)를 올릴 때 응답 시간 예산 안인지 시작 시 확인용
+     */
+    public Duration checkLatencyBudget(Duration budget) {
+        long start = System.nanoTime();
+        encode("latency-budget-check");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (elapsed.compareTo(budget) > 0) {
+            log.warn("[비밀번호 해시] 1회 {}ms - 예산 {}ms 초과 (bcrypt strength 를 낮추거나 예산 조정 필요)",
+                    elapsed.toMillis(), budget.toMillis());
+        } else {
+            log.info("[비밀번호 해시] 1회 {}ms (예산 {}ms)", elapsed.toMillis(), budget.toMillis());
+        }
+        return elapsed;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("password.hash")
+                .tag("op", "encode")
+                .description("비밀번호 해시 소요 시간 (대기열 대기 제외)")
+                .register(registry);
+        matchesTimer = Timer.builder("password.hash")
+                .tag("op", "matches")
+                .description("비밀번호 해시 소요 시간 (대기열 대기 제외)")
+                .register(registry);
+        Gauge.builder("password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("해시 대기열 길이")
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 스레드 수")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", rejected, LongAdder::sum)
+                .description("풀 포화로 거절된 해시 요청 수")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Supplier<T> work, boolean encode) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(work, encode));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private <T> T timed(Supplier<T> work, boolean encode) {
+        Timer timer = encode ? encodeTimer : matchesTimer;
+        if (timer == null) {
+            return work.get();
+        }
+        return timer.record(work);
+    }
+
+    private static final class HashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
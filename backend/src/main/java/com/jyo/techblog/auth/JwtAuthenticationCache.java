@@ -0,0 +1,100 @@
+package com.jyo.techblog.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Access Token 캐시 (토큰 SHA-256 -> JwtPrincipal)
+ * - 같은 토큰으로 다시 오는 요청은 서명 검증/클레임 파싱 없이 바로 인증 정보 사용
+ * - 항목은 토큰의 exp 시각에 맞춰 만료 (만료된 토큰이 캐시로 통과하지 않게)
+ * - 키는 토큰 원문 대신 다이제스트만 보관, 유효하지 않은 토큰은 캐시하지 않음
+ * - hit/miss/eviction 통계는 Micrometer 로 노출 (cache.* 메트릭, name=jwt)
+ */
+@Component
+public class JwtAuthenticationCache implements MeterBinder {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<ByteBuffer, JwtPrincipal> cache;
+
+    public JwtAuthenticationCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${app.jwt.cache.max-size:10000}") long maxSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환, 없으면 토큰을 한 번 검증해서 저장
+     */
+    public Optional<JwtPrincipal> resolve(String token) {
+        ByteBuffer key = digest(token);
+
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<JwtPrincipal> principal = jwtTokenProvider.parse(token);
+        principal.ifPresent(value -> cache.put(key, value));
+        return principal;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt");
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 항목별 만료 시각 = 토큰 exp
+     */
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtPrincipal principal, long currentTime) {
+            long remainingMs = principal.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.jyo.techblog.auth;
 
-import com.jyo.techblog.domain.user.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 매 요청마다 JWT 토큰을 검사해서 인증 정보를 세팅하는 필터
@@ -27,7 +27,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(
@@ -44,17 +44,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 3) "Bearer " 자르고 실제 JWT 토큰만 가져옴
             String token = authHeader.substring(7);
 
-            // 4) 토큰이 유효한지 검증 (서명 체크, 만료시간 체크 등)
-            if (jwtTokenProvider.validateToken(token)) {
-                // 5) 토큰 내부에서 userId, Role 추출 (JWT 클레임 안에 저장해둔 값)
-                Long userId = jwtTokenProvider.getUserId(token);
-                Role role = jwtTokenProvider.getRole(token);
+            // 4) 토큰 검증 (서명 체크, 만료시간 체크 등) + userId, Role 추출을 한 번에
+            // - 같은 토큰으로 다시 온 요청이면 캐시에서 바로 꺼냄 (서명 검증 생략, exp 지나면 캐시에서도 만료)
+            Optional<JwtPrincipal> principal = jwtAuthenticationCache.resolve(token);
+
+            if (principal.isPresent()) {
+                // 5) 토큰 내부에서 꺼낸 userId, Role (JWT 클레임 안에 저장해둔 값)
+                Long userId = principal.get().userId();
+                String role = principal.get().role().name();
 
                 // 6) Spring Security는 권한을 "ROLE_이름" 형태로 관리한다.
                 // - ex) USER -> ROLE_USER
                 // - List<GrantedAuthority> 형태로 Security에게 넘겨줘야 한다.
                 List<GrantedAuthority> authorities =
-                        List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+                        List.of(new SimpleGrantedAuthority("ROLE_" + role));
 
                 /**
                  * 7) Authentication 객체 생성
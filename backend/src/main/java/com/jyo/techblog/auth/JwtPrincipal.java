@@ -0,0 +1,12 @@
+package com.jyo.techblog.auth;
+
+import com.jyo.techblog.domain.user.Role;
+
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 Access Token 에서 꺼낸 인증 정보 (불변)
+ * - 서명/만료 검증은 만들 때 한 번만 하고, 이후엔 이 값만 사용
+ */
+public record JwtPrincipal(Long userId, Role role, Instant expiresAt) {
+}
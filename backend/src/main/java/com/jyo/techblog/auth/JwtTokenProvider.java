@@ -2,6 +2,7 @@ package com.jyo.techblog.auth;
 
 import com.jyo.techblog.domain.user.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성/검증 담당 클래스
@@ -21,6 +23,9 @@ public class JwtTokenProvider {
     private final Key key;
     private final long accessTokenExpirationMs;
 
+    // 검증용 파서 - 불변/스레드 안전이라 한 번만 만들어서 재사용
+    private final JwtParser parser;
+
     // 비밀 키(secret key) 초기화
     public JwtTokenProvider(
         @Value("${app.jwt.secret}") String secret,
@@ -30,6 +35,9 @@ public class JwtTokenProvider {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
@@ -52,41 +60,19 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 userId 추출
-     */
-    public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
-    }
-
-    /**
-     * 토큰에서 Role 추출
-     */
-    public Role getRole(String token) {
-        Claims claims = parseClaims(token);
-        String roleName = claims.get("role", String.class);
-        return Role.valueOf(roleName);
-    }
-
-    /**
-     * 토큰 유효성 검증
+     * 토큰 검증 + 인증 정보 추출 (서명/만료 체크는 한 번만)
+     * - 유효하지 않은 토큰이면 empty
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtPrincipal> parse(String token) {
         try {
-            parseClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Optional.of(new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    Role.valueOf(claims.get("role", String.class)),
+                    claims.getExpiration().toInstant()
+            ));
+        } catch (RuntimeException e) {
+            return Optional.empty();
         }
     }
-
-    // JWT 토큰에 담긴 정보를 쉽게 꺼내 쓸 수 있게
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
 }
@@ -0,0 +1,11 @@
+package com.jyo.techblog.auth;
+
+/**
+ * 비밀번호 해시 작업 풀이 가득 차서 요청을 받지 못할 때 (-> 503)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,51 @@
+package com.jyo.techblog.common.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(키셋) 페이징 위치 - 마지막으로 내려준 항목의 (createdAt, id)
+ * - 클라이언트에는 Base64 문자열로만 노출 (내부 구조에 의존하지 않게)
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지 -> null)
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * (createdAt DESC, id DESC) 정렬 기준으로 주어진 항목이 이 커서 다음(더 오래된 쪽)에 오는지
+     */
+    public boolean precedes(LocalDateTime otherCreatedAt, long otherId) {
+        int cmp = otherCreatedAt.compareTo(createdAt);
+        return cmp < 0 || (cmp == 0 && otherId < id);
+    }
+}
@@ -0,0 +1,19 @@
+package com.jyo.techblog.common.cursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 응답 (COUNT 쿼리 없이 다음 페이지 존재 여부만)
+ * - nextCursor: 다음 요청에 그대로 넘길 값 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
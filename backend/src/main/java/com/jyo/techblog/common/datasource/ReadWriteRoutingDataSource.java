@@ -0,0 +1,119 @@
+package com.jyo.techblog.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jyo.techblog.common.util.IpUtils;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource
+ * - 트랜잭션 시작 시점엔 readOnly 플래그가 아직 안 잡혀 있음
+ *   -> 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 때 커넥션을 고르게 해야 함
+ * - replica 는 지연이 허용 범위인 것들 중 라운드 로빈, 하나도 없으면 primary
+ * - read-your-writes: 쓰기 트랜잭션을 연 클라이언트(회원 ID, 비회원 IP)는 window 동안 읽기도 primary 로
+ *   (인스턴스 메모리 기준이라 서버가 여러 대면 같은 인스턴스로 간 요청에만 적용)
+ * - 트랜잭션 없이(SUPPORTS) 읽는 경우도 readOnly 플래그는 잡히므로 replica 로 감 -> read-your-writes 도 똑같이 적용
+ * - 공유 캐시를 채우는 로딩처럼 replica 지연값이 오래 남으면 안 되는 읽기는 onPrimary 로 감싸서 primary 로 고정
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReplicatedDataSources sources;
+    private final Cache<String, Boolean> recentWriters;
+    private final Supplier<String> clientKey;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(ReplicatedDataSources sources, Duration readYourWritesWindow) {
+        this(sources, readYourWritesWindow, ReadWriteRoutingDataSource::currentClientKey);
+    }
+
+    ReadWriteRoutingDataSource(ReplicatedDataSources sources, Duration readYourWritesWindow, Supplier<String> clientKey) {
+        this.sources = sources;
+        this.clientKey = clientKey;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>(sources.replicas());
+        targets.put(ReplicatedDataSources.PRIMARY, sources.primary());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(sources.primary());
+        afterPropertiesSet();
+    }
+
+    /**
+     * action 안에서 처음 잡는 커넥션은 readOnly 여부와 상관없이 primary
+     * - LazyConnectionDataSourceProxy 라서 이미 커넥션을 잡은 트랜잭션 안에서는 효과 없음 (트랜잭션 밖 로딩용)
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                String writer = clientKey.get();
+                if (writer != null) {
+                    recentWriters.put(writer, Boolean.TRUE);
+                }
+            }
+            return ReplicatedDataSources.PRIMARY;
+        }
+
+        if (FORCE_PRIMARY.get() != null) {
+            return ReplicatedDataSources.PRIMARY;
+        }
+
+        String client = clientKey.get();
+        if (client != null && recentWriters.getIfPresent(client) != null) {
+            return ReplicatedDataSources.PRIMARY;
+        }
+
+        List<String> healthy = sources.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return ReplicatedDataSources.PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    // 회원: "u:{userId}", 비회원: "ip:{IP}", 요청 밖(스케줄러 등): null
+    private static String currentClientKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "u:" + userId;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + IpUtils.getClientIp(servletAttributes.getRequest());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.jyo.techblog.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * primary + replica 커넥션 풀 묶음과 replica 복제 지연 감시
+ * - 지연은 heartbeat 방식: primary 의 replication_heartbeat 행에 현재 시각을 쓰고,
+ *   각 replica 에서 같은 행을 읽어 (지금 - 읽은 시각) 을 지연으로 봄 (SHOW REPLICA STATUS 권한 불필요)
+ * - 테이블은 Flyway 마이그레이션(V7)으로 생성 (앱 계정에 DDL 권한 불필요)
+ * - 지연이 max-lag 를 넘거나 조회에 실패한 replica 는 다음 체크까지 읽기 대상에서 빠짐
+ * - heartbeat=false 면 연결만 확인하고 지연은 0으로 봄 (복제 없이 DB 두 개로 로컬 테스트할 때)
+ * - 풀이 스프링 빈이 아니라서 Hikari 풀 메트릭(hikaricp.*)도 여기서 연결, 종료 시 풀도 여기서 닫음
+ */
+@Slf4j
+public class ReplicatedDataSources implements MeterBinder, AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final long UNAVAILABLE = Long.MAX_VALUE;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, AtomicLong> lagMillis = new LinkedHashMap<>();
+    private final long maxLagMillis;
+    private final boolean heartbeat;
+    private final LongSupplier clock;
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicatedDataSources(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, boolean heartbeat) {
+        this(primary, replicas, maxLag, heartbeat, System::currentTimeMillis);
+    }
+
+    ReplicatedDataSources(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration maxLag,
+            boolean heartbeat,
+            LongSupplier clock
+    ) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagMillis = maxLag.toMillis();
+        this.heartbeat = heartbeat;
+        this.clock = clock;
+        for (String name : replicas.keySet()) {
+            lagMillis.put(name, new AtomicLong(UNAVAILABLE));
+        }
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    // 지금 읽기를 보내도 되는 replica 이름 (없으면 빈 목록 -> primary 로)
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    /**
+     * primary 에 heartbeat 기록 후 replica 별 지연 갱신
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.heartbeat-interval:1s}")
+    public void check() {
+        long now = clock.getAsLong();
+        if (heartbeat && !beat(now)) {
+            // primary 에 못 쓰면 replica 지연도 알 수 없음 -> 직전 판단 유지
+            return;
+        }
+
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((name, replica) -> {
+            long lag = lagOf(replica, now);
+            lagMillis.get(name).set(lag);
+            if (lag <= maxLagMillis) {
+                healthy.add(name);
+            }
+        });
+
+        if (healthy.size() != healthyReplicas.size()) {
+            log.info("읽기 replica 변경: {} -> {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindPoolMetrics(primary, registry);
+        replicas.values().forEach(replica -> bindPoolMetrics(replica, registry));
+
+        lagMillis.forEach((name, lag) ->
+                Gauge.builder("db.replica.lag", lag, value -> value.get() == UNAVAILABLE ? Double.NaN : value.get())
+                        .tag("replica", name)
+                        .baseUnit("milliseconds")
+                        .description("replica 복제 지연 (조회 실패 시 NaN)")
+                        .register(registry));
+        Gauge.builder("db.replica.healthy", this, sources -> sources.healthyReplicas().size())
+                .description("읽기를 받을 수 있는 replica 수")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            closeQuietly(replica);
+        }
+        closeQuietly(primary);
+    }
+
+    private boolean beat(long now) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(primary);
+            if (jdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("replication heartbeat 기록 실패", e);
+            return false;
+        }
+    }
+
+    private long lagOf(DataSource replica, long now) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+            if (!heartbeat) {
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                return 0;
+            }
+            List<Long> beats = jdbcTemplate.queryForList(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+            return beats.isEmpty() ? UNAVAILABLE : Math.max(0, now - beats.get(0));
+        } catch (RuntimeException e) {
+            log.debug("replica 지연 확인 실패", e);
+            return UNAVAILABLE;
+        }
+    }
+
+    private void bindPoolMetrics(DataSource dataSource, MeterRegistry registry) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+
+    private void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("커넥션 풀 종료 실패", e);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.jyo.techblog.common.error;
 
+import com.jyo.techblog.auth.PasswordHashingBusyException;
+import com.jyo.techblog.file.UploadBufferBusyException;
+import com.jyo.techblog.file.UploadTimeoutException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -96,6 +100,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * 503 - 비밀번호 해시 풀 / 업로드 버퍼 포화 (잠시 후 재시도)
+     */
+    @ExceptionHandler({PasswordHashingBusyException.class, UploadBufferBusyException.class})
+    public ResponseEntity<ErrorResponse> handleBusy(
+            RuntimeException ex,
+            HttpServletRequest request
+    ) {
+        ErrorResponse response = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.name())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(java.time.LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * 408 - 업로드 본문이 너무 느림 (버퍼를 오래 잡지 않도록 중단)
+     */
+    @ExceptionHandler(UploadTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleUploadTimeout(
+            UploadTimeoutException ex,
+            HttpServletRequest request
+    ) {
+        ErrorResponse response = ErrorResponse.builder()
+                .status(HttpStatus.REQUEST_TIMEOUT.value())
+                .error(HttpStatus.REQUEST_TIMEOUT.name())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(java.time.LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.REQUEST_TIMEOUT).body(response);
+    }
+
     /**
      * 500 - 예상하지 못한 전체(서버) 예외
      */
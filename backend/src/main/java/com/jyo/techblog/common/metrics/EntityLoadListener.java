@@ -0,0 +1,33 @@
+package com.jyo.techblog.common.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청마다 DB 에서 읽어 만든 엔티티 수를 RequestProfile 에 기록
+ * - Hibernate 통계(hibernate.entities.loads)는 전체 합계라 요청/엔드포인트별로는 이 리스너로 셈
+ * - 지연 로딩 프록시 초기화도 여기로 들어옴 -> N+1 이면 엔드포인트별 엔티티 로딩 수가 튐
+ */
+@Component
+public class EntityLoadListener implements PostLoadEventListener {
+
+    public EntityLoadListener(EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.recordEntityLoad();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.jyo.techblog.common.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 실행되는 SQL 과 트랜잭션 시간을 현재 요청(RequestProfile)에 기록하는 DataSource 래퍼
+ * - JPA(Hibernate), JdbcTemplate 모두 이 DataSource 를 거치므로 요청당 SQL 이 빠짐없이 잡힘
+ * - SQL 시간 = execute* 호출 시간 (ResultSet 을 읽는 시간은 제외)
+ * - 트랜잭션 시간 = setAutoCommit(false) ~ commit/rollback
+ * - 집계 중인 요청이 없는 스레드(스케줄러 등)는 ThreadLocal 조회 한 번만 하고 그대로 통과
+ * - unwrap/isWrapperFor 는 원본으로 위임 -> Hikari 풀 메트릭 등은 그대로 동작
+ * - 종료 시 close 도 원본으로 위임 (빈이 이 래퍼로 바뀌어도 커넥션 풀이 닫히도록)
+ */
+public class ProfilingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public ProfilingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ProfilingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection)
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private long transactionStart;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "prepareStatement":
+                    return statement(PreparedStatement.class, invoke(target, method, args), (String) args[0]);
+                case "prepareCall":
+                    return statement(CallableStatement.class, invoke(target, method, args), (String) args[0]);
+                case "createStatement":
+                    return statement(Statement.class, invoke(target, method, args), null);
+                case "setAutoCommit":
+                    if (!(Boolean) args[0] && transactionStart == 0) {
+                        transactionStart = System.nanoTime();
+                    }
+                    return invoke(target, method, args);
+                case "commit":
+                case "rollback":
+                    try {
+                        return invoke(target, method, args);
+                    } finally {
+                        if (args == null) {
+                            endTransaction();
+                        }
+                    }
+                default:
+                    return invoke(target, method, args);
+            }
+        }
+
+        private void endTransaction() {
+            if (transactionStart == 0) {
+                return;
+            }
+            RequestProfile profile = RequestProfile.current();
+            if (profile != null) {
+                profile.recordTransaction(System.nanoTime() - transactionStart);
+            }
+            transactionStart = 0;
+        }
+
+        private static Object statement(Class<? extends Statement> type, Object statement, String sql) {
+            return Proxy.newProxyInstance(
+                    ProfilingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql)
+            );
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            RequestProfile profile = RequestProfile.current();
+            if (profile == null || !method.getName().startsWith("execute")) {
+                return ProfilingDataSource.invoke(target, method, args);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return ProfilingDataSource.invoke(target, method, args);
+            } finally {
+                profile.recordSql(sqlOf(method, args), System.nanoTime() - start);
+            }
+        }
+
+        // PreparedStatement 는 생성 시 SQL, Statement 는 execute(sql) 인자
+        private String sqlOf(Method method, Object[] args) {
+            String text = sql;
+            if (text == null && args != null && args.length > 0 && args[0] instanceof String s) {
+                text = s;
+            }
+            if (text == null) {
+                text = "(statement)";
+            }
+            return method.getName().contains("Batch") ? text + " [batch]" : text;
+        }
+    }
+}
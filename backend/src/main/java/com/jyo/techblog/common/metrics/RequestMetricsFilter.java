@@ -0,0 +1,150 @@
+package com.jyo.techblog.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트(메서드 + URI 패턴)별 SQL / 트랜잭션 / 엔티티 로딩 메트릭 + 느린 요청 로그
+ * - 응답 시간 히스토그램은 스프링 기본 http.server.requests 를 그대로 사용
+ *   (같은 접두사라 management.metrics.distribution 설정이 아래 메트릭에도 적용됨)
+ * - http.server.requests.sql: 요청당 SQL 실행 수
+ * - http.server.requests.sql.time: 요청당 SQL 실행 시간 합
+ * - http.server.requests.tx.time: 요청당 트랜잭션 시간 합
+ * - http.server.requests.entity.loads: 요청당 엔티티 로딩 수
+ * - slow-request 를 넘은 요청은 실행된 SQL 순서를 WARN 로그로 남김
+ * - 보안 필터보다 먼저 실행돼야 인증/요청 제한에서 나간 SQL 까지 포함됨
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry registry;
+    private final long slowRequestNanos;
+    private final int maxLoggedStatements;
+    private final Map<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(
+            MeterRegistry registry,
+            @Value("${app.metrics.slow-request:1s}") Duration slowRequest,
+            @Value("${app.metrics.slow-request-max-statements:50}") int maxLoggedStatements
+    ) {
+        this.registry = registry;
+        this.slowRequestNanos = slowRequest.toNanos();
+        this.maxLoggedStatements = maxLoggedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestProfile profile = RequestProfile.start(maxLoggedStatements);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestProfile.end();
+
+            String uri = uriPattern(request);
+            meters.computeIfAbsent(request.getMethod() + " " + uri,
+                    key -> new EndpointMeters(registry, request.getMethod(), uri)).record(profile);
+
+            if (elapsed >= slowRequestNanos) {
+                logSlowRequest(request, response, uri, elapsed, profile);
+            }
+        }
+    }
+
+    // 컨트롤러 매핑 패턴 (/api/posts/{id}) -> 경로 변수가 달라도 한 엔드포인트로 묶임
+    private String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private void logSlowRequest(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String uri,
+            long elapsedNanos,
+            RequestProfile profile
+    ) {
+        StringBuilder sql = new StringBuilder();
+        int index = 1;
+        for (RequestProfile.Statement statement : profile.statements()) {
+            sql.append("\n  ").append(index++).append(") ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(statement.nanos())).append("ms ")
+                    .append(statement.sql());
+        }
+        if (profile.sqlCount() > profile.statements().size()) {
+            sql.append("\n  ... ").append(profile.sqlCount() - profile.statements().size()).append("건 생략");
+        }
+
+        log.warn("느린 요청 {} {} ({}) {} -> {}ms, SQL {}건 {}ms, 트랜잭션 {}ms, 엔티티 로딩 {}건{}",
+                request.getMethod(), request.getRequestURI(), uri, response.getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                profile.sqlCount(), TimeUnit.NANOSECONDS.toMillis(profile.sqlNanos()),
+                TimeUnit.NANOSECONDS.toMillis(profile.transactionNanos()),
+                profile.entityLoads(), sql);
+    }
+
+    /**
+     * 엔드포인트 하나의 메트릭 묶음 (요청마다 레지스트리 조회하지 않도록 캐시)
+     */
+    private static final class EndpointMeters {
+
+        private final DistributionSummary sqlCount;
+        private final Timer sqlTime;
+        private final Timer transactionTime;
+        private final DistributionSummary entityLoads;
+
+        private EndpointMeters(MeterRegistry registry, String method, String uri) {
+            this.sqlCount = DistributionSummary.builder("http.server.requests.sql")
+                    .description("요청당 SQL 실행 수")
+                    .tags("method", method, "uri", uri)
+                    .register(registry);
+            this.sqlTime = Timer.builder("http.server.requests.sql.time")
+                    .description("요청당 SQL 실행 시간 합")
+                    .tags("method", method, "uri", uri)
+                    .register(registry);
+            this.transactionTime = Timer.builder("http.server.requests.tx.time")
+                    .description("요청당 트랜잭션 시간 합")
+                    .tags("method", method, "uri", uri)
+                    .register(registry);
+            this.entityLoads = DistributionSummary.builder("http.server.requests.entity.loads")
+                    .description("요청당 엔티티 로딩 수")
+                    .tags("method", method, "uri", uri)
+                    .register(registry);
+        }
+
+        void record(RequestProfile profile) {
+            sqlCount.record(profile.sqlCount());
+            sqlTime.record(profile.sqlNanos(), TimeUnit.NANOSECONDS);
+            transactionTime.record(profile.transactionNanos(), TimeUnit.NANOSECONDS);
+            entityLoads.record(profile.entityLoads());
+        }
+    }
+}
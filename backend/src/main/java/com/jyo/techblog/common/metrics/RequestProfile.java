@@ -0,0 +1,80 @@
+package com.jyo.techblog.common.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 하나 동안 실행된 SQL / 트랜잭션 / 엔티티 로딩 집계
+ * - 요청 스레드의 ThreadLocal 에만 두므로 동기화 X (@Async, 스케줄러 스레드의 SQL 은 집계 안 됨)
+ * - SQL 문장은 느린 요청 로그용으로 앞에서부터 maxStatements 개까지만 보관 (바인딩 값은 없음)
+ */
+final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final int maxStatements;
+    private final List<Statement> statements = new ArrayList<>();
+
+    private int sqlCount;
+    private long sqlNanos;
+    private long transactionNanos;
+    private long entityLoads;
+
+    private RequestProfile(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    static RequestProfile start(int maxStatements) {
+        RequestProfile profile = new RequestProfile(maxStatements);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    // 현재 스레드에서 집계 중인 요청 (없으면 null)
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void recordSql(String sql, long nanos) {
+        sqlCount++;
+        sqlNanos += nanos;
+        if (statements.size() < maxStatements) {
+            statements.add(new Statement(sql, nanos));
+        }
+    }
+
+    void recordTransaction(long nanos) {
+        transactionNanos += nanos;
+    }
+
+    void recordEntityLoad() {
+        entityLoads++;
+    }
+
+    int sqlCount() {
+        return sqlCount;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    long transactionNanos() {
+        return transactionNanos;
+    }
+
+    long entityLoads() {
+        return entityLoads;
+    }
+
+    List<Statement> statements() {
+        return statements;
+    }
+
+    record Statement(String sql, long nanos) {
+    }
+}
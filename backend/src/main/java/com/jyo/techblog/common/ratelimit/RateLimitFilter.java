@@ -0,0 +1,69 @@
+package com.jyo.techblog.common.ratelimit;
+
+import com.jyo.techblog.common.util.IpUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비회원도 호출할 수 있는 쓰기/인증 API 요청 제한 필터 (초과 시 429)
+ * - 회원은 userId, 비회원은 클라이언트 IP 기준으로 규칙별 버킷을 나눔
+ * - IP 는 remoteAddr (X-Forwarded-For 는 신뢰하는 프록시에서 온 것만 Tomcat 이 반영) -> 헤더 위조로 새 버킷 X
+ * - JWT 필터 뒤에서 실행돼야 회원 구분 가능 -> 빈으로 등록하지 않고 SecurityConfig 에서 체인에 직접 추가
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RateLimitRule rule = rateLimiter.match(request);
+        if (rule != null) {
+            long waitNanos = rateLimiter.tryAcquire(rule, clientKey(request));
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 회원: "u:{userId}", 비회원: "ip:{IP}"
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "u:" + userId;
+        }
+        return "ip:" + IpUtils.getClientIp(request);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json; charset=UTF-8");
+
+        String body = """
+        { "error": "TOO_MANY_REQUESTS", "message": "요청이 너무 많습니다. 잠시 후 다시 시도해주세요." }
+        """;
+
+        response.getWriter().write(body);
+    }
+}
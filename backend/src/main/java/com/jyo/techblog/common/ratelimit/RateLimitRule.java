@@ -0,0 +1,37 @@
+package com.jyo.techblog.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
+
+/**
+ * 경로별 요청 제한 규칙
+ * - period 동안 capacity 번까지 허용 (한꺼번에 몰아서 capacity 번도 가능)
+ * - 토큰은 period / capacity 마다 하나씩 다시 채워짐
+ * - 같은 name 이면 같은 버킷을 나눠 씀
+ */
+public record RateLimitRule(String name, AntPathRequestMatcher matcher, int capacity, Duration period) {
+
+    public RateLimitRule {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("요청 제한 설정이 올바르지 않습니다: " + name);
+        }
+    }
+
+    /**
+     * method 가 null 이면 모든 메서드
+     */
+    public static RateLimitRule of(String name, String method, String pattern, int capacity, Duration period) {
+        return new RateLimitRule(name, new AntPathRequestMatcher(pattern, method), capacity, period);
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return matcher.matches(request);
+    }
+
+    // 토큰 하나가 다시 채워지는 간격
+    long intervalNanos() {
+        return period.toNanos() / capacity;
+    }
+}
@@ -0,0 +1,154 @@
+package com.jyo.techblog.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트(회원 ID 또는 IP) x 규칙별 토큰 버킷
+ * - 버킷 상태는 "다음 토큰이 생기는 시각"(TAT) long 하나 -> AtomicLong CAS 로만 갱신 (락 X)
+ *   (GCRA 방식: 토큰 수 + 마지막 충전 시각을 따로 들고 있는 토큰 버킷과 같은 결과)
+ * - 마지막 요청 후 period 가 지나면 버킷이 가득 찬 상태 = 없는 것과 같으므로 그때 맵에서 제거
+ * - 버킷 수 상한(max-buckets)을 넘으면 오래 안 쓴 버킷부터 제거 -> IP가 수백만 개여도 메모리 고정
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+
+    private final List<RateLimitRule> rules;
+    private final Map<String, LongAdder> rejected = new LinkedHashMap<>();
+    private final Cache<String, Bucket> buckets;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(
+            @Value("${app.rate-limit.period:1m}") Duration period,
+            @Value("${app.rate-limit.like:30}") int likeCapacity,
+            @Value("${app.rate-limit.comment:10}") int commentCapacity,
+            @Value("${app.rate-limit.comment-delete:10}") int commentDeleteCapacity,
+            @Value("${app.rate-limit.auth:20}") int authCapacity,
+            @Value("${app.rate-limit.max-buckets:1000000}") long maxBuckets
+    ) {
+        this(List.of(
+                RateLimitRule.of("like", "POST", "/api/posts/*/likes", likeCapacity, period),
+                RateLimitRule.of("comment", "POST", "/api/posts/*/comments", commentCapacity, period),
+                RateLimitRule.of("comment-delete", "DELETE", "/api/comments/**", commentDeleteCapacity, period),
+                RateLimitRule.of("auth", null, "/api/auth/**", authCapacity, period)
+        ), maxBuckets, System::nanoTime);
+    }
+
+    RateLimiter(List<RateLimitRule> rules, long maxBuckets, LongSupplier clock) {
+        this.rules = rules;
+        this.clock = clock;
+        for (RateLimitRule rule : rules) {
+            rejected.putIfAbsent(rule.name(), new LongAdder());
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfter(new UntilRefilled())
+                .ticker(clock::getAsLong)
+                .build();
+    }
+
+    /**
+     * 요청에 걸리는 첫 번째 규칙 (없으면 null -> 제한 없음)
+     */
+    public RateLimitRule match(HttpServletRequest request) {
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 0 이면 허용, 양수면 거절 + 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(RateLimitRule rule, String clientKey) {
+        Bucket bucket = buckets.get(rule.name() + '|' + clientKey, key -> new Bucket(rule));
+
+        long now = clock.getAsLong();
+        long interval = rule.intervalNanos();
+        long burst = rule.period().toNanos();
+
+        while (true) {
+            long tat = bucket.tat.get();
+            long next = Math.max(tat, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                rejected.get(rule.name()).increment();
+                return wait;
+            }
+            if (bucket.tat.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("메모리에 있는 요청 제한 버킷 수")
+                .register(registry);
+        rejected.forEach((rule, count) ->
+                FunctionCounter.builder("rate.limit.rejected", count, LongAdder::sum)
+                        .tag("rule", rule)
+                        .description("요청 제한으로 거절된 요청 수 (429)")
+                        .register(registry));
+    }
+
+    private static final class Bucket {
+
+        private final RateLimitRule rule;
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        private Bucket(RateLimitRule rule) {
+            this.rule = rule;
+        }
+    }
+
+    /**
+     * 마지막 접근 후 period 가 지나면 만료
+     * - TAT 는 항상 (마지막 요청 시각 + period) 이하 -> 그 뒤엔 버킷이 가득 찬 상태라 지워도 결과가 같음
+     */
+    private static final class UntilRefilled implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.rule.period().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.rule.period().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.rule.period().toNanos();
+        }
+    }
+}
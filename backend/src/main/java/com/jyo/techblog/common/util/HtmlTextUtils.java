@@ -0,0 +1,54 @@
+package com.jyo.techblog.common.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 위지윅 HTML 컨텐츠를 평문으로 다루기 위한 유틸
+ */
+public final class HtmlTextUtils {
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IMG_SRC =
+            Pattern.compile("<img[^>]+src\\s*=\\s*[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+
+    private HtmlTextUtils() {
+    }
+
+    /**
+     * 태그 제거 + 엔티티(&nbsp; 등) 해제 + 공백 정리
+     */
+    public static String toPlainText(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        String text = TAG.matcher(html).replaceAll(" ");
+        text = HtmlUtils.htmlUnescape(text);
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    /**
+     * 평문 기준 앞부분 maxLength 글자 (넘치면 "..." 붙임)
+     */
+    public static String excerpt(String html, int maxLength) {
+        String text = toPlainText(html);
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        return text.substring(0, maxLength).trim() + "...";
+    }
+
+    /**
+     * 본문의 첫 번째 img 태그 src (없으면 null)
+     */
+    public static String firstImageSrc(String html) {
+        if (html == null || html.isEmpty()) {
+            return null;
+        }
+        Matcher matcher = IMG_SRC.matcher(html);
+        return matcher.find() ? HtmlUtils.htmlUnescape(matcher.group(1)) : null;
+    }
+}
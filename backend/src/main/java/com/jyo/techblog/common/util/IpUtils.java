@@ -2,25 +2,18 @@ package com.jyo.techblog.common.util;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * 클라이언트 IP 추출 (조회수 쿨타임, 비회원 좋아요, 요청 제한 키)
+ * - X-Forwarded-For / X-Real-IP 를 직접 읽지 않음 (클라이언트가 마음대로 바꿔서 요청 제한을 우회할 수 있음)
+ * - 프록시 뒤에서는 Tomcat RemoteIpValve(server.forward-headers-strategy=native)가
+ *   신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)에서 온 요청만 X-Forwarded-For 로 remoteAddr 를 바꿔줌
+ */
 public final class IpUtils {
 
     private IpUtils() {
     }
 
     public static String getClientIp(HttpServletRequest request) {
-        // 1) 프록시 환경에서 많이 쓴느 헤더 우선
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) {
-            String ip = xff.split(",")[0].trim();
-            return normalizeLoopback(ip);
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isBlank()) {
-            return normalizeLoopback(xRealIp.trim());
-        }
-
-        // 2) 프록시 없으면 여기로 떨어짐 (로컬에서는 대부분 loopback)
         return normalizeLoopback(request.getRemoteAddr());
     }
 
@@ -0,0 +1,32 @@
+package com.jyo.techblog.config;
+
+import com.jyo.techblog.common.metrics.ProfilingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 집계 설정
+ * - 스프링이 만든 DataSource(Hikari) 를 ProfilingDataSource 로 감쌈
+ * - app.metrics.sql-profiling=false 면 감싸지 않음 (요청별 SQL 메트릭/느린 요청 SQL 로그가 0으로 나옴)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.sql-profiling", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor profilingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
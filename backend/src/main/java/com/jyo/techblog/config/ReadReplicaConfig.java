@@ -0,0 +1,77 @@
+package com.jyo.techblog.config;
+
+import com.jyo.techblog.common.datasource.ReadWriteRoutingDataSource;
+import com.jyo.techblog.common.datasource.ReplicatedDataSources;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 (app.datasource.replica-urls 가 있을 때만, 없으면 스프링 기본 DataSource 하나)
+ * - primary: spring.datasource.* + spring.datasource.hikari.*
+ * - replica: 같은 계정/풀 설정에 URL 만 다르게, 커넥션은 read-only
+ * - 실제 DataSource 빈 = LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource)
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica-urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig primaryHikariConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicatedDataSources replicatedDataSources(
+            HikariConfig primaryHikariConfig,
+            @Value("${app.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replica-max-lag:2s}") Duration maxLag,
+            @Value("${app.datasource.heartbeat:true}") boolean heartbeat
+    ) {
+        primaryHikariConfig.setPoolName("primary");
+        HikariDataSource primary = new HikariDataSource(primaryHikariConfig);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryHikariConfig.copyStateTo(config);
+            config.setJdbcUrl(replicaUrls.get(i).trim());
+            config.setPoolName("replica-" + i);
+            config.setReadOnly(true);
+            // replica 가 죽어 있어도 앱은 뜨고, 지연 체크에서 빠진 채 primary 로 읽음
+            config.setInitializationFailTimeout(-1);
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        return new ReplicatedDataSources(primary, replicas, maxLag, heartbeat);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            ReplicatedDataSources replicatedDataSources,
+            @Value("${app.datasource.read-your-writes:5s}") Duration readYourWritesWindow
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(replicatedDataSources, readYourWritesWindow));
+    }
+}
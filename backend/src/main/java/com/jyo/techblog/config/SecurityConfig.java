@@ -1,9 +1,13 @@
 package com.jyo.techblog.config;
 
+import com.jyo.techblog.auth.BoundedPasswordEncoder;
 import com.jyo.techblog.auth.JwtAccessDeniedHandler;
 import com.jyo.techblog.auth.JwtAuthenticationEntryPoint;
 import com.jyo.techblog.auth.JwtAuthenticationFilter;
+import com.jyo.techblog.common.ratelimit.RateLimitFilter;
+import com.jyo.techblog.common.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,10 +16,11 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 /**
  * 임시 Security 설정
  * - H2 콘솔 접속 허용
@@ -32,6 +37,11 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CorsConfig corsConfig;
+    private final RateLimiter rateLimiter;
+
+    // 외부에 열지 않는 관리 포트 (설정 안 하면 -1 -> 서비스 포트와 같음)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -55,6 +65,11 @@ public class SecurityConfig {
                                 "/swagger-ui/**",
                                 "swagger-ui.html"
                         ).permitAll()
+                        // 헬스 체크는 공개, 나머지 actuator(메트릭)는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        // 관리 포트로 들어온 요청(Prometheus 스크랩)은 허용
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 이미지 조회 접근 허용
                         .requestMatchers("/files/**").permitAll()
                         // 인증/회원가입 API는 모두 허용
@@ -71,6 +86,7 @@ public class SecurityConfig {
                         // 좋아요 기능 (상태 조회, 좋아요는 모두 가능, 취소는 회원만 가능)
                         .requestMatchers(HttpMethod.GET, "/api/posts/*/likes").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/posts/*/likes").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/posts/likes/status").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/posts/*/likes").hasAnyRole("USER", "ADMIN")
                         // 그 외 API는 인증 필요 (작성/수정/삭제 등)
                         .requestMatchers("/api/**").authenticated()
@@ -85,14 +101,25 @@ public class SecurityConfig {
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
                 // UsernamePasswordAuthenticationFilter 전에 JWT 필터를 끼워넣기
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 회원/IP별 요청 제한 (JWT 필터 뒤 -> 회원이면 userId 기준)
+                .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        // 비밀번호 암호화에 사용
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.password.bcrypt-strength:10}") int strength,
+            @Value("${app.password.hash-threads:2}") int threads,
+            @Value("${app.password.queue-capacity:32}") int queueCapacity,
+            @Value("${app.password.max-wait:3s}") Duration maxWait,
+            @Value("${app.password.latency-budget:300ms}") Duration latencyBudget
+    ) {
+        // 비밀번호 암호화에 사용 (BCrypt 는 요청 스레드가 아닌 전용 풀에서 실행)
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, maxWait);
+        encoder.checkLatencyBudget(latencyBudget);
+        return encoder;
     }
 }
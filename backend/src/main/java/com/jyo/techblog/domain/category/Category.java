@@ -3,20 +3,35 @@ package com.jyo.techblog.domain.category;
 import com.jyo.techblog.common.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 게시글 카테고리 엔티티
+ * - 2차 캐시(category 리전) + 목록/단건 조회는 쿼리 캐시 -> 평소엔 SQL 없음
+ * - update/softDelete 는 더티 체킹으로 커밋될 때 캐시 항목 갱신 + categories 테이블 쿼리 캐시 무효화
+ *   (벌크 UPDATE 로 바꾸면 캐시가 갱신되지 않으므로 엔티티를 통해서만 수정)
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Entity
-@Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
+@Table(
+        name = "categories",
+        indexes = {
+                // 카테고리 목록: deleted 필터 + name 정렬
+                @Index(name = "idx_categories_deleted_name", columnList = "deleted, name")
+        }
+)
 public class Category extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 50개씩 미리 할당받는 pooled 시퀀스 (MySQL 은 category_seq 테이블로 대체) -> INSERT 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
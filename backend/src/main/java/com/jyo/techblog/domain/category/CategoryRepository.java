@@ -1,18 +1,23 @@
 package com.jyo.techblog.domain.category;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
-    // 카테고리 이름순 조회
+    // 카테고리 이름순 조회 (사이드바 - 쿼리 캐시, 읽기 전용 트랜잭션에서는 onPrimary 로 감싸서 호출)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findAllByDeletedFalseOrderByNameAsc();
 
     // 카테고리명 중복 체크
     boolean existsByNameAndDeletedFalse(String name);
 
-    // 카테고리 단건 조회
+    // 카테고리 단건 조회 (글 작성/수정 시 - 쿼리 캐시, 쓰기 트랜잭션에서만 호출돼서 항상 primary)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByIdAndDeletedFalse(Long id);
 }
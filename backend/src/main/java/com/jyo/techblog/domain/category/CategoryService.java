@@ -1,7 +1,10 @@
 package com.jyo.techblog.domain.category;
 
+import com.jyo.techblog.common.datasource.ReadWriteRoutingDataSource;
+import com.jyo.techblog.common.util.TransactionUtils;
 import com.jyo.techblog.domain.category.dto.CategoryRequest;
 import com.jyo.techblog.domain.category.dto.CategoryResponse;
+import com.jyo.techblog.domain.post.PostCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,12 +18,15 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final PostCache postCache;
 
     /**
      * 카테고리 전체 조회
+     * - 쿼리 캐시에 들어가는 결과라 primary 에서 읽음
+     *   (replica 지연 중에 읽은 목록이 캐시되면 다음 카테고리 변경 전까지 계속 오래된 목록이 나감)
      */
     public List<CategoryResponse> getCategories() {
-        return categoryRepository.findAllByDeletedFalseOrderByNameAsc().stream()
+        return ReadWriteRoutingDataSource.onPrimary(categoryRepository::findAllByDeletedFalseOrderByNameAsc).stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
     }
@@ -48,6 +54,9 @@ public class CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
 
         category.update(request.getName(), request.getDescription());
+
+        // 캐시된 게시글 응답에 이전 카테고리 이름이 남지 않도록
+        TransactionUtils.afterCommit(() -> postCache.evictByCategory(id));
         return CategoryResponse.from(category);
     }
 
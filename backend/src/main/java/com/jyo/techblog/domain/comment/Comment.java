@@ -12,10 +12,19 @@ import lombok.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA 프록시 및 기본 생성자 보호
+@Table(
+        name = "comment",
+        indexes = {
+                // 게시글별 댓글 커서 목록: post_id + deleted 필터 + (created_at, id) 정렬
+                @Index(name = "idx_comment_post_deleted_created_at", columnList = "post_id, deleted, created_at, id")
+        }
+)
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 50개씩 미리 할당받는 pooled 시퀀스 (MySQL 은 comment_seq 테이블로 대체) -> INSERT 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;
 
     // 어느 게시글의 댓글인지
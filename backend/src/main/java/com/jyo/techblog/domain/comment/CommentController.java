@@ -2,11 +2,10 @@ package com.jyo.techblog.domain.comment;
 
 import com.jyo.techblog.domain.comment.dto.CommentCreateRequest;
 import com.jyo.techblog.domain.comment.dto.CommentResponse;
+import com.jyo.techblog.domain.comment.dto.CommentSliceResponse;
 import com.jyo.techblog.domain.comment.dto.CommentUpdateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -41,15 +40,17 @@ public class CommentController {
     }
 
     /**
-     * 댓글 목록 조회 (비로그인도 조회 가능)
-     * - URL: GET /posts/{postId}/comments?page=0&size=10
+     * 댓글 목록 조회 (비로그인도 조회 가능, 커서 페이징)
+     * - URL: GET /posts/{postId}/comments?size=20
+     * - URL: GET /posts/{postId}/comments?cursor={이전 응답의 nextCursor}
      */
     @GetMapping("/posts/{postId}/comments")
-    public Page<CommentResponse> getCommentByPost(
+    public CommentSliceResponse getCommentByPost(
             @PathVariable Long postId,
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        return commentService.getCommentByPost(postId, pageable);
+        return commentService.getCommentByPost(postId, cursor, size);
     }
 
     /**
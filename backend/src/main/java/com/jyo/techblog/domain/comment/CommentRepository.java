@@ -1,11 +1,41 @@
 package com.jyo.techblog.domain.comment;
 
-import com.jyo.techblog.domain.post.Post;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    Page<Comment> findByPostAndDeletedFalse(Post post, Pageable pageable);
+    // 댓글 커서 목록 첫 페이지 (오래된 순)
+    // - 게시글 존재 확인 + 댓글 수(posts.comment_count) + 댓글을 한 쿼리로 (COUNT 쿼리 X)
+    @Query("""
+        SELECT new com.jyo.techblog.domain.comment.CommentSliceRow(p.commentCount, c)
+        FROM Post p
+        LEFT JOIN Comment c ON c.post.id = p.id AND c.deleted = false
+        WHERE p.id = :postId
+        AND p.deleted = false
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentSliceRow> findFirstSlice(@Param("postId") Long postId, Pageable pageable);
+
+    // 댓글 커서 목록 다음 페이지 - (createdAt, id) 가 커서보다 큰 댓글부터 (OFFSET 없음)
+    @Query("""
+        SELECT new com.jyo.techblog.domain.comment.CommentSliceRow(p.commentCount, c)
+        FROM Post p
+        LEFT JOIN Comment c ON c.post.id = p.id AND c.deleted = false
+            AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+        WHERE p.id = :postId
+        AND p.deleted = false
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<CommentSliceRow> findSliceAfter(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
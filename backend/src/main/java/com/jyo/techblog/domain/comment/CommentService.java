@@ -1,20 +1,27 @@
 package com.jyo.techblog.domain.comment;
 
+import com.jyo.techblog.common.cursor.Cursor;
+import com.jyo.techblog.common.util.TransactionUtils;
 import com.jyo.techblog.domain.comment.dto.CommentCreateRequest;
 import com.jyo.techblog.domain.comment.dto.CommentResponse;
+import com.jyo.techblog.domain.comment.dto.CommentSliceResponse;
 import com.jyo.techblog.domain.comment.dto.CommentUpdateRequest;
 import com.jyo.techblog.domain.post.Post;
+import com.jyo.techblog.domain.post.PostCache;
 import com.jyo.techblog.domain.post.PostRepository;
 import com.jyo.techblog.domain.user.Role;
 import com.jyo.techblog.domain.user.User;
 import com.jyo.techblog.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,6 +31,10 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PostCache postCache;
+
+    // 커서 목록 한 번에 가져올 수 있는 최대 댓글 수
+    private static final int MAX_SLICE_SIZE = 100;
 
     /**
      * 댓글 생성
@@ -63,7 +74,11 @@ public class CommentService {
                 .password(password)
                 .build();
 
-        return CommentResponse.from(commentRepository.save(comment));
+        Comment saved = commentRepository.save(comment);
+        postRepository.increaseCommentCount(postId);
+        evictPostAfterCommit(postId);
+
+        return CommentResponse.from(saved);
     }
 
     /**
@@ -106,7 +121,7 @@ public class CommentService {
         if (userId != null) {
             User user = userRepository.findById(userId).orElse(null);
             if (user != null && user.getRole() == Role.ADMIN) {
-                comment.softDelete();
+                softDelete(comment);
                 return;
             }
         }
@@ -123,21 +138,63 @@ public class CommentService {
             }
         }
 
-        comment.softDelete();
+        softDelete(comment);
     }
 
     /**
-     * 게시글 기준 댓글 목록 조회 (페이징)
+     * 게시글 기준 댓글 목록 조회 (커서 페이징, 오래된 순)
      * - 삭제되지 않은 댓글만 조회
+     * - 게시글 존재 확인 + 전체 댓글 수 + 댓글 목록을 쿼리 한 번으로 (OFFSET, COUNT 쿼리 X)
      */
-    public Page<CommentResponse> getCommentByPost(Long postId, Pageable pageable) {
-        // 게시글 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+    public CommentSliceResponse getCommentByPost(Long postId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentSliceRow> rows = (after == null)
+                ? commentRepository.findFirstSlice(postId, limit)
+                : commentRepository.findSliceAfter(postId, after.createdAt(), after.id(), limit);
+
+        // 게시글이 있으면 댓글이 없어도 한 행은 나옴
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+
+        List<Comment> comments = rows.stream()
+                .map(CommentSliceRow::comment)
+                .filter(Objects::nonNull)
+                .toList();
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> page = hasNext ? comments.subList(0, pageSize) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CommentSliceResponse.of(
+                page.stream().map(CommentResponse::from).toList(),
+                nextCursor,
+                hasNext,
+                rows.get(0).commentCount()
+        );
+    }
+
+    /**
+     * 댓글 soft delete + 게시글 댓글 수 -1 (같은 트랜잭션)
+     */
+    private void softDelete(Comment comment) {
+        Long postId = comment.getPost().getId();
+        comment.softDelete();
+        postRepository.decreaseCommentCount(postId);
+        evictPostAfterCommit(postId);
+    }
 
-        // 댓글 목록 조회 후 DTO 변환
-        return commentRepository.findByPostAndDeletedFalse(post, pageable)
-                .map(CommentResponse::from);
+    // 단건 캐시(PostResponse.commentCount) 무효화
+    private void evictPostAfterCommit(Long postId) {
+        TransactionUtils.afterCommit(() -> postCache.evict(postId));
     }
 
     /**
@@ -0,0 +1,9 @@
+package com.jyo.techblog.domain.comment;
+
+/**
+ * 댓글 커서 목록 조회 결과 한 행
+ * - 게시글 기준 LEFT JOIN 이라 게시글이 있으면 댓글이 없어도 한 행 (comment = null)
+ * - 행이 하나도 없으면 게시글이 없거나 삭제된 것
+ */
+public record CommentSliceRow(long commentCount, Comment comment) {
+}
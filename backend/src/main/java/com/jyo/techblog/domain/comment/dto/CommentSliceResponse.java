@@ -0,0 +1,21 @@
+package com.jyo.techblog.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 목록 응답
+ * - totalCount: 게시글의 전체 댓글 수 (posts.comment_count)
+ * - nextCursor: 다음 요청에 그대로 넘길 값 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CommentSliceResponse {
+
+    private List<CommentResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private long totalCount;
+}
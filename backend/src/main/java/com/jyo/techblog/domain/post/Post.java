@@ -1,6 +1,7 @@
 package com.jyo.techblog.domain.post;
 
 import com.jyo.techblog.common.BaseTimeEntity;
+import com.jyo.techblog.common.util.HtmlTextUtils;
 import com.jyo.techblog.domain.category.Category;
 import com.jyo.techblog.domain.user.User;
 import jakarta.persistence.*;
@@ -14,11 +15,24 @@ import lombok.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Entity
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 목록/커서 조회: deleted 필터 + (created_at, id) 정렬
+                @Index(name = "idx_posts_deleted_created_at", columnList = "deleted, created_at, id"),
+                @Index(name = "idx_posts_category_deleted_created_at", columnList = "category_id, deleted, created_at, id")
+        }
+)
 public class Post extends BaseTimeEntity {
 
+    // 목록 카드에 보여줄 요약 길이
+    private static final int EXCERPT_LENGTH = 150;
+    private static final int THUMBNAIL_URL_LENGTH = 500;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 50개씩 미리 할당받는 pooled 시퀀스 (MySQL 은 post_seq 테이블로 대체) -> INSERT 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -28,6 +42,14 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String content;
 
+    // 목록용 요약 (본문 평문 앞부분) - 작성/수정 시점에 한 번만 계산해서 저장
+    @Column(length = 300)
+    private String excerpt;
+
+    // 목록용 썸네일 (본문 첫 번째 이미지)
+    @Column(length = THUMBNAIL_URL_LENGTH)
+    private String thumbnailUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)  // 여러 글이 하나의 작성자를 가질 수 있음
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -36,11 +58,20 @@ public class Post extends BaseTimeEntity {
     @JoinColumn(name = "category_id")  // nullable 허용 (카테고리 없는 글)
     private Category category;
 
-    // 조회수
-    @Column(nullable = false)
+    // 조회수 / 좋아요 수 / 댓글 수
+    // - 카운터는 UPDATE ... SET x = x + ? 로만 바꿈 (엔티티 수정 시 옛 값으로 덮어쓰지 않게 updatable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private long viewCount = 0;
 
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private long likeCount = 0;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private long commentCount = 0;
+
     // 소프트 삭제
     @Column(nullable = false)
     @Builder.Default
@@ -53,6 +84,7 @@ public class Post extends BaseTimeEntity {
         post.content = content;
         post.author = author;
         post.category = category;
+        post.refreshSummary();
         return post;
     }
 
@@ -60,14 +92,22 @@ public class Post extends BaseTimeEntity {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        refreshSummary();
     }
 
-    public void updateCategory(Category category) {
-        this.category = category;
+    // 본문 기준으로 요약/썸네일 다시 계산 (기존 글 채우기용으로도 사용)
+    public void refreshSummary() {
+        this.excerpt = HtmlTextUtils.excerpt(content, EXCERPT_LENGTH);
+
+        // data URI 처럼 긴 값은 썸네일로 저장하지 않음
+        String src = HtmlTextUtils.firstImageSrc(content);
+        this.thumbnailUrl = (src != null && src.length() <= THUMBNAIL_URL_LENGTH && !src.startsWith("data:"))
+                ? src
+                : null;
     }
 
-    public void increaseViewCount() {
-        this.viewCount++;
+    public void updateCategory(Category category) {
+        this.category = category;
     }
 
     // 소프트 삭제
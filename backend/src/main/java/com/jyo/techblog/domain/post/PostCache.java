@@ -0,0 +1,135 @@
+package com.jyo.techblog.domain.post;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jyo.techblog.common.datasource.ReadWriteRoutingDataSource;
+import com.jyo.techblog.domain.post.dto.PostResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 응답 캐시 (GET /api/posts/{id})
+ * - Caffeine (W-TinyLFU) 기반, 글 길이 기준 가중치로 전체 메모리 상한을 둠
+ * - 수정/삭제/카테고리 이름 변경, 좋아요/댓글 수 변경 시 커밋 이후 무효화
+ * - 조회수는 ViewCountBuffer 가 DB 에 반영할 때마다 캐시된 응답의 값만 올림 (인기 글 캐시가 주기마다 비지 않게)
+ * - hit/miss/eviction 통계는 Micrometer 로 노출 (cache.* 메트릭, name=posts)
+ * - 로딩은 항상 primary 에서 (replica 지연값이 캐시에 들어가면 무효화 이후에도 만료까지 남음)
+ * - 로딩(JDBC, 커넥션 대기 최대 3초)은 캐시 내부 잠금(ConcurrentHashMap.compute) 밖에서 실행
+ *   -> 가상 스레드가 synchronized 구간에서 막혀 캐리어 스레드를 붙잡지 않게 (JDK 21 pinning)
+ */
+@Component
+public class PostCache implements MeterBinder {
+
+    // 엔트리당 고정 오버헤드 (DTO, 키, 날짜 등) 대략치
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final AsyncCache<Long, PostResponse> cache;
+
+    public PostCache(
+            @Value("${app.cache.post.max-weight-bytes:52428800}") long maxWeightBytes,
+            @Value("${app.cache.post.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long postId, PostResponse post) -> weigh(post))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환, 없으면 loader 로 읽어서 저장 (같은 키 동시 요청은 한 번만 로딩)
+     * - 빈 future 를 먼저 자리잡기(putIfAbsent)로 넣고, 넣은 스레드만 잠금 밖에서 로딩 -> 나머지는 그 future 를 기다림
+     * - loader 는 호출 스레드에서 실행되므로 트랜잭션/onPrimary 가 그대로 적용됨
+     * - 로딩 중에 무효화되면 future 가 캐시에서 빠져서 로딩 결과(변경 전 값일 수 있음)는 저장되지 않음
+     */
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        CompletableFuture<PostResponse> cached = cache.getIfPresent(postId);
+        if (cached != null) {
+            return join(cached);
+        }
+
+        CompletableFuture<PostResponse> loading = new CompletableFuture<>();
+        CompletableFuture<PostResponse> existing = cache.asMap().putIfAbsent(postId, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            PostResponse post = ReadWriteRoutingDataSource.onPrimary(() -> loader.apply(postId));
+            loading.complete(post);
+            return post;
+        } catch (RuntimeException | Error e) {
+            // 실패한 future 는 캐시가 알아서 제거 (다음 요청이 다시 로딩)
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시된 응답의 조회수에 delta 더하기 (없으면 아무것도 안 함)
+     * - 로딩 중인 글은 DB 반영 전 값을 읽었을 수 있어서 무효화
+     */
+    public void addViewCount(Long postId, long delta) {
+        cache.asMap().computeIfPresent(postId, (id, future) -> {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return null;
+            }
+            PostResponse post = future.join();
+            return CompletableFuture.completedFuture(post.withViewCount(post.getViewCount() + delta));
+        });
+    }
+
+    public void evict(Long postId) {
+        cache.synchronous().invalidate(postId);
+    }
+
+    /**
+     * 해당 카테고리 글 전부 무효화 (카테고리 이름 변경 시)
+     */
+    public void evictByCategory(Long categoryId) {
+        cache.synchronous().asMap().values().removeIf(post -> Objects.equals(post.getCategoryId(), categoryId));
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "posts");
+    }
+
+    // 다른 스레드의 로딩을 기다림 (loader 예외는 감싸지 않고 그대로)
+    private static PostResponse join(CompletableFuture<PostResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 문자열은 UTF-16 기준 글자당 2바이트로 계산
+    private static int weigh(PostResponse post) {
+        long chars = length(post.getTitle()) + length(post.getContent())
+                + length(post.getNickname()) + length(post.getCategoryName());
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
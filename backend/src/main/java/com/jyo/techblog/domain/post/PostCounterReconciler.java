@@ -0,0 +1,67 @@
+package com.jyo.techblog.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * posts 의 비정규화 카운터(like_count, comment_count) 정합성 보정
+ * - 평소엔 좋아요/댓글 변경 시 +1/-1 로만 관리하므로, 수동 데이터 수정 등으로 어긋난 값을 원본 테이블 기준으로 다시 맞춤
+ * - 컬럼 추가 전 글도 시작 시 한 번 채워짐
+ * - 게시글 id 구간별로 끊어서 트랜잭션을 짧게 유지 (값이 다른 행만 UPDATE)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciler {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String LIKE_COUNT_SQL = """
+            UPDATE posts p
+            SET like_count = (SELECT COUNT(*) FROM post_like l WHERE l.post_id = p.id AND l.deleted = false)
+            WHERE p.id > ? AND p.id <= ?
+            AND p.like_count <> (SELECT COUNT(*) FROM post_like l WHERE l.post_id = p.id AND l.deleted = false)
+            """;
+
+    private static final String COMMENT_COUNT_SQL = """
+            UPDATE posts p
+            SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted = false)
+            WHERE p.id > ? AND p.id <= ?
+            AND p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted = false)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.post-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        int likeFixed = 0;
+        int commentFixed = 0;
+        for (long from = 0; from < maxId; from += BATCH_SIZE) {
+            likeFixed += update(LIKE_COUNT_SQL, from);
+            commentFixed += update(COMMENT_COUNT_SQL, from);
+        }
+
+        if (likeFixed > 0 || commentFixed > 0) {
+            log.info("[게시글 카운터] like_count {}건, comment_count {}건 보정", likeFixed, commentFixed);
+        }
+    }
+
+    private int update(String sql, long from) {
+        Integer updated = transactionTemplate.execute(
+                status -> jdbcTemplate.update(sql, from, from + BATCH_SIZE));
+        return updated != null ? updated : 0;
+    }
+}
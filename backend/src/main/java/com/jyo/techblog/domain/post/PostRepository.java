@@ -1,39 +1,139 @@
 package com.jyo.techblog.domain.post;
 
-import com.jyo.techblog.domain.user.User;
+import com.jyo.techblog.domain.post.dto.PostSummaryResponse;
+import com.jyo.techblog.domain.postlike.dto.PostLikeCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    // 삭제되지 않은 글 단건 조회
+    // 삭제되지 않은 글 단건 조회 (작성자, 카테고리까지 한 번에 - PostResponse 변환 시 추가 쿼리 X)
+    @EntityGraph(attributePaths = {"author", "category"})
     Optional<Post> findByIdAndDeletedFalse(Long id);
 
     // 삭제되지 않은 글 목록 전체
     List<Post> findAllByDeletedFalse(Pageable pageable);
 
-    // 삭제되지 않은 글만 대상 + 제목/내용 검색
+    // 삭제되지 않은 글만 대상 + 카테고리 필터 (검색어는 PostSearchIndex 에서 처리)
+    // - 목록 카드에 필요한 컬럼만 프로젝션 (content 컬럼은 읽지 않음)
+    @Query(value = """
+        SELECT new com.jyo.techblog.domain.post.dto.PostSummaryResponse(
+            p.id, p.title, p.excerpt, p.thumbnailUrl, a.nickname,
+            c.id, c.name, p.viewCount, p.likeCount, p.commentCount, p.createdAt, p.updatedAt
+        )
+        FROM Post p
+        JOIN p.author a
+        LEFT JOIN p.category c
+        WHERE p.deleted = false
+        AND (:categoryId IS NULL OR c.id = :categoryId)
+    """, countQuery = """
+        SELECT COUNT(p)
+        FROM Post p
+        WHERE p.deleted = false
+        AND (:categoryId IS NULL OR p.category.id = :categoryId)
+    """)
+    Page<PostSummaryResponse> findPostList(
+            @Param("categoryId") Long categoryId,
+            Pageable pageable
+    );
+
+    // 커서 목록 첫 페이지 (COUNT 쿼리 없음, LIMIT 만)
     @Query("""
-        SELECT p
+        SELECT new com.jyo.techblog.domain.post.dto.PostSummaryResponse(
+            p.id, p.title, p.excerpt, p.thumbnailUrl, a.nickname,
+            c.id, c.name, p.viewCount, p.likeCount, p.commentCount, p.createdAt, p.updatedAt
+        )
         FROM Post p
+        JOIN p.author a
+        LEFT JOIN p.category c
         WHERE p.deleted = false
-        AND (
-            :keyword IS NULL 
-            OR :keyword = '' 
-            OR p.title LIKE %:keyword% 
-            OR p.content LIKE %:keyword%
+        AND (:categoryId IS NULL OR c.id = :categoryId)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<PostSummaryResponse> findFirstSlice(
+            @Param("categoryId") Long categoryId,
+            Pageable pageable
+    );
+
+    // 커서 목록 다음 페이지 - (createdAt, id) 가 커서보다 작은 글부터 (OFFSET 없음)
+    @Query("""
+        SELECT new com.jyo.techblog.domain.post.dto.PostSummaryResponse(
+            p.id, p.title, p.excerpt, p.thumbnailUrl, a.nickname,
+            c.id, c.name, p.viewCount, p.likeCount, p.commentCount, p.createdAt, p.updatedAt
         )
-        AND (:categoryId IS NULL OR p.category.id = :categoryId)
+        FROM Post p
+        JOIN p.author a
+        LEFT JOIN p.category c
+        WHERE p.deleted = false
+        AND (:categoryId IS NULL OR c.id = :categoryId)
+        AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+        ORDER BY p.createdAt DESC, p.id DESC
     """)
-    Page<Post> searchByKeyword(
-            @Param("keyword") String keyword,
+    List<PostSummaryResponse> findSliceAfter(
             @Param("categoryId") Long categoryId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable
     );
+
+    // 검색 결과(id 목록)에 해당하는 글 요약 조회
+    @Query("""
+        SELECT new com.jyo.techblog.domain.post.dto.PostSummaryResponse(
+            p.id, p.title, p.excerpt, p.thumbnailUrl, a.nickname,
+            c.id, c.name, p.viewCount, p.likeCount, p.commentCount, p.createdAt, p.updatedAt
+        )
+        FROM Post p
+        JOIN p.author a
+        LEFT JOIN p.category c
+        WHERE p.deleted = false
+        AND p.id IN :ids
+    """)
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구축용 (id 순으로 끊어서 조회)
+    List<Post> findByIdGreaterThanAndDeletedFalseOrderByIdAsc(Long id, Pageable pageable);
+
+    // 요약(excerpt)이 아직 없는 기존 글
+    List<Post> findByExcerptIsNull(Pageable pageable);
+
+    // 좋아요 수 증감 - 행 단위 원자적 UPDATE (동시에 눌러도 유실 X, COUNT 쿼리 X)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
+
+    // 댓글 수 증감 (댓글 작성 / soft delete 와 같은 트랜잭션)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int increaseCommentCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("id") Long id);
+
+    // 증감 직후 최신 좋아요 수 (영속성 컨텍스트의 엔티티 값은 UPDATE 전 값이라 따로 조회)
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    long findLikeCountById(@Param("id") Long id);
+
+    // 여러 글의 좋아요 수 한 번에 (목록 페이지 좋아요 상태용)
+    @Query("""
+        SELECT new com.jyo.techblog.domain.postlike.dto.PostLikeCount(p.id, p.likeCount)
+        FROM Post p
+        WHERE p.deleted = false
+        AND p.id IN :ids
+    """)
+    List<PostLikeCount> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
 }
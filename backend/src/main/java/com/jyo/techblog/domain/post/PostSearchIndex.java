@@ -0,0 +1,361 @@
+package com.jyo.techblog.domain.post;
+
+import com.jyo.techblog.common.cursor.Cursor;
+import com.jyo.techblog.common.util.HtmlTextUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 인메모리 역색인 (제목 + 본문)
+ * - LIKE '%keyword%' 풀스캔 대신 2글자(바이그램) 단위 역색인으로 후보를 찾는다
+ *   (한글은 띄어쓰기 단위로 자르면 부분 검색이 안 되기 때문)
+ * - 한 글자 검색어("C", "글")도 단어 안 부분 일치가 되도록 글자(유니그램)도 같이 색인
+ * - 포스팅 리스트는 게시글 id 오름차순 int[] + 가중치 int[] 로 보관 (박싱 X)
+ * - 검색어의 모든 토큰을 포함한 글만 반환 (AND), 점수 내림차순 -> 최신 글 순
+ * - 커서 목록(scroll)은 점수 대신 (createdAt, id) 내림차순
+ */
+@Component
+public class PostSearchIndex {
+
+    // 제목에 나온 토큰은 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+
+    // (createdAt, id) 내림차순
+    private static final Comparator<ScrollCandidate> NEWEST_FIRST =
+            Comparator.comparing(ScrollCandidate::createdAt).thenComparingInt(ScrollCandidate::docId).reversed();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, IndexedPost> posts = new HashMap<>();
+
+    /**
+     * 게시글 색인 (이미 있으면 교체)
+     */
+    public void index(Post post) {
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        index(post.getId(), categoryId, post.getCreatedAt(), post.getTitle(), post.getContent());
+    }
+
+    public void index(long postId, Long categoryId, LocalDateTime createdAt, String title, String content) {
+        int docId = Math.toIntExact(postId);
+
+        // 락 밖에서 토큰화 (HTML 제거 + 바이그램 추출)
+        Map<String, int[]> weights = new HashMap<>();
+        collectTerms(title, TITLE_WEIGHT, true, weights);
+        collectTerms(HtmlTextUtils.toPlainText(content), 1, true, weights);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+
+            String[] terms = new String[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, int[]> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new PostingList())
+                        .put(docId, entry.getValue()[0]);
+                terms[i++] = entry.getKey();
+            }
+            posts.put(docId, new IndexedPost(terms, categoryId, createdAt != null ? createdAt : LocalDateTime.MIN));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거 (삭제된 글)
+     */
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * - 점수 내림차순으로 정렬된 게시글 id 중 [offset, offset + limit) 구간 + 전체 히트 수 반환
+     */
+    public Hits search(String keyword, Long categoryId, long offset, int limit) {
+        Map<String, int[]> queryTerms = queryTerms(keyword);
+        if (queryTerms.isEmpty()) {
+            return Hits.EMPTY;
+        }
+
+        long[] ranked;
+        int count = 0;
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = postingLists(queryTerms);
+            if (lists == null) {
+                return Hits.EMPTY;
+            }
+
+            PostingList shortest = lists[0];
+            ranked = new long[shortest.size];
+
+            for (int c = 0; c < shortest.size; c++) {
+                long score = matchScore(lists, c, categoryId);
+                if (score < 0) {
+                    continue;
+                }
+                // 상위 32비트 = 점수, 하위 32비트 = id -> 정렬 한 번으로 (점수, 최신순) 정렬
+                ranked[count++] = (Math.min(score, Integer.MAX_VALUE) << 32) | shortest.ids[c];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Arrays.sort(ranked, 0, count);
+
+        int from = (int) Math.min(offset, count);
+        int to = (int) Math.min(count, from + (long) limit);
+        List<Long> postIds = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            postIds.add(ranked[count - 1 - k] & 0xFFFFFFFFL);
+        }
+        return new Hits(postIds, count);
+    }
+
+    /**
+     * 커서 목록용 검색
+     * - 커서 이후(더 오래된) 글 중 (createdAt, id) 내림차순 상위 limit 개의 id
+     * - 전체 정렬 없이 크기 limit 힙으로 상위만 유지
+     */
+    public List<Long> scroll(String keyword, Long categoryId, Cursor after, int limit) {
+        Map<String, int[]> queryTerms = queryTerms(keyword);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 힙의 head = 지금까지 고른 것 중 가장 오래된 글
+        PriorityQueue<ScrollCandidate> top = new PriorityQueue<>(limit + 1, NEWEST_FIRST.reversed());
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = postingLists(queryTerms);
+            if (lists == null) {
+                return List.of();
+            }
+
+            PostingList shortest = lists[0];
+            for (int c = 0; c < shortest.size; c++) {
+                if (matchScore(lists, c, categoryId) < 0) {
+                    continue;
+                }
+
+                int docId = shortest.ids[c];
+                LocalDateTime createdAt = posts.get(docId).createdAt();
+                if (after != null && !after.precedes(createdAt, docId)) {
+                    continue;
+                }
+
+                top.offer(new ScrollCandidate(docId, createdAt));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ScrollCandidate> sorted = new ArrayList<>(top);
+        sorted.sort(NEWEST_FIRST);
+        return sorted.stream()
+                .map(candidate -> (long) candidate.docId())
+                .toList();
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, int[]> queryTerms(String keyword) {
+        Map<String, int[]> terms = new HashMap<>();
+        collectTerms(keyword, 1, false, terms);
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰들의 포스팅 리스트 (짧은 순 정렬), 하나라도 없는 토큰이면 null
+     * - 읽기 락 안에서 호출
+     */
+    private PostingList[] postingLists(Map<String, int[]> queryTerms) {
+        PostingList[] lists = new PostingList[queryTerms.size()];
+        int i = 0;
+        for (String term : queryTerms.keySet()) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return null;
+            }
+            lists[i++] = list;
+        }
+
+        // 가장 짧은 포스팅 리스트 기준으로 나머지는 이진 탐색
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        return lists;
+    }
+
+    /**
+     * 가장 짧은 리스트의 c번째 글이 모든 토큰 + 카테고리 조건을 만족하면 점수, 아니면 -1
+     * - 읽기 락 안에서 호출
+     */
+    private long matchScore(PostingList[] lists, int c, Long categoryId) {
+        PostingList shortest = lists[0];
+        int docId = shortest.ids[c];
+        long score = shortest.weights[c];
+
+        for (int l = 1; l < lists.length; l++) {
+            int pos = lists[l].indexOf(docId);
+            if (pos < 0) {
+                return -1;
+            }
+            score += lists[l].weights[pos];
+        }
+
+        if (categoryId != null && !Objects.equals(categoryId, posts.get(docId).categoryId())) {
+            return -1;
+        }
+        return score;
+    }
+
+    private void removeInternal(int docId) {
+        IndexedPost old = posts.remove(docId);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.terms()) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            list.remove(docId);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 소문자 변환 후 글자/숫자 단위로 단어를 나누고, 단어마다 바이그램을 뽑아 가중치 누적
+     * - 한 글자 단어는 그 자체를 토큰으로
+     * - unigrams = true(색인 시)면 단어 안의 모든 글자도 토큰으로 -> 한 글자 검색어가 부분 일치
+     */
+    private static void collectTerms(String text, int weight, boolean unigrams, Map<String, int[]> out) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (start < 0) {
+                    start = i;
+                }
+                continue;
+            }
+            if (start < 0) {
+                continue;
+            }
+
+            if (i - start == 1) {
+                addTerm(normalized.substring(start, i), weight, out);
+            } else {
+                for (int k = start; k < i - 1; k++) {
+                    addTerm(normalized.substring(k, k + 2), weight, out);
+                }
+                if (unigrams) {
+                    for (int k = start; k < i; k++) {
+                        addTerm(normalized.substring(k, k + 1), weight, out);
+                    }
+                }
+            }
+            start = -1;
+        }
+    }
+
+    private static void addTerm(String term, int weight, Map<String, int[]> out) {
+        out.computeIfAbsent(term, key -> new int[1])[0] += weight;
+    }
+
+    /**
+     * 검색 결과 (현재 페이지 id 목록 + 전체 히트 수)
+     */
+    public record Hits(List<Long> postIds, long total) {
+        static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+
+    // 게시글별로 색인된 토큰 (재색인/삭제 시 포스팅 정리용) + 카테고리 필터/커서 정렬용 값
+    private record IndexedPost(String[] terms, Long categoryId, LocalDateTime createdAt) {
+    }
+
+    private record ScrollCandidate(int docId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 토큰 하나의 포스팅 리스트 (게시글 id 오름차순 정렬 유지)
+     */
+    private static final class PostingList {
+
+        private int[] ids = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void put(int docId, int weight) {
+            int pos = indexOf(docId);
+            if (pos >= 0) {
+                weights[pos] = weight;
+                return;
+            }
+
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            ids[insertAt] = docId;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        void remove(int docId) {
+            int pos = indexOf(docId);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(weights, pos + 1, weights, pos, size - pos - 1);
+            size--;
+        }
+
+        int indexOf(int docId) {
+            return Arrays.binarySearch(ids, 0, size, docId);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.jyo.techblog.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 삭제되지 않은 게시글 전체를 검색 색인에 올림
+ * - 한 번에 다 읽지 않고 id 순으로 BATCH_SIZE 씩 끊어서 (배치마다 트랜잭션 분리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+
+        while (true) {
+            long from = lastId;
+            List<Post> batch = tx.execute(status -> {
+                List<Post> posts = postRepository.findByIdGreaterThanAndDeletedFalseOrderByIdAsc(
+                        from, PageRequest.of(0, BATCH_SIZE));
+                posts.forEach(postSearchIndex::index);
+                return posts;
+            });
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        log.info("[검색 색인] 게시글 {}건 색인 완료 ({}ms)",
+                postSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -1,20 +1,32 @@
 package com.jyo.techblog.domain.post;
 
+import com.jyo.techblog.common.cursor.Cursor;
+import com.jyo.techblog.common.cursor.CursorResponse;
+import com.jyo.techblog.common.util.TransactionUtils;
 import com.jyo.techblog.domain.category.Category;
 import com.jyo.techblog.domain.category.CategoryRepository;
 import com.jyo.techblog.domain.post.dto.PostCreateRequest;
 import com.jyo.techblog.domain.post.dto.PostResponse;
+import com.jyo.techblog.domain.post.dto.PostSummaryResponse;
 import com.jyo.techblog.domain.post.dto.PostUpdateRequest;
 import com.jyo.techblog.domain.user.User;
 import com.jyo.techblog.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,9 +37,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostService {
 
+    // 커서 목록 한 번에 내려주는 최대 개수
+    private static final int MAX_SCROLL_SIZE = 50;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCache postCache;
 
     /**
      * 게시글 작성 (로그인 필요)
@@ -47,28 +64,69 @@ public class PostService {
         );
 
         Post saved = postRepository.save(post);
+        reindexAfterCommit(saved);
         return PostResponse.from(saved);
     }
 
     /**
-     * 게시글 단건 조회
+     * 게시글 단건 조회 (캐시 우선)
+     * - 캐시 히트면 DB 커넥션도 잡지 않도록 트랜잭션 없이 실행 (SUPPORTS)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findByIdAndDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        return postCache.get(postId, id -> {
+            Post post = postRepository.findByIdAndDeletedFalse(id)
+                    .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        return PostResponse.from(post);
+            return PostResponse.from(post);
+        });
     }
 
     /**
      * 게시글 목록 조회 (간단 검색 포함)
      * - keyword가 없으면 전체 목록
-     * - keyword가 있으면 제목 or 내용만 포함된 글만
+     * - keyword가 있으면 검색 색인에서 해당 페이지의 id만 뽑고 (관련도 순), 그 글들만 조회
      */
-    public Page<PostResponse> getPosts(String keyword, Long categoryId, Pageable pageable) {
-        Page<Post> page = postRepository.searchByKeyword(keyword, categoryId, pageable);
+    public Page<PostSummaryResponse> getPosts(String keyword, Long categoryId, Pageable pageable) {
+        if (!StringUtils.hasText(keyword)) {
+            return postRepository.findPostList(categoryId, pageable);
+        }
+
+        PostSearchIndex.Hits hits = postSearchIndex.search(
+                keyword, categoryId, pageable.getOffset(), pageable.getPageSize());
 
-        return page.map(PostResponse::from);
+        return new PageImpl<>(findSummariesInOrder(hits.postIds()), pageable, hits.total());
+    }
+
+    /**
+     * 게시글 커서 목록 조회 (createdAt, id 내림차순)
+     * - OFFSET, COUNT 쿼리 없이 size + 1 개만 읽어서 다음 페이지 여부 판단
+     * - keyword 있으면 검색 색인에서 커서 이후 id만 뽑아서 조회
+     */
+    public CursorResponse<PostSummaryResponse> scrollPosts(String keyword, Long categoryId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryResponse> posts;
+        if (StringUtils.hasText(keyword)) {
+            posts = findSummariesInOrder(postSearchIndex.scroll(keyword, categoryId, after, pageSize + 1));
+        } else if (after == null) {
+            posts = postRepository.findFirstSlice(categoryId, limit);
+        } else {
+            posts = postRepository.findSliceAfter(categoryId, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<PostSummaryResponse> page = hasNext ? posts.subList(0, pageSize) : posts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorResponse.of(page, nextCursor, hasNext);
     }
 
     /**
@@ -100,6 +158,7 @@ public class PostService {
         if (category != null) {
             post.updateCategory(category);
         }
+        reindexAfterCommit(post);
         return PostResponse.from(post);
     }
 
@@ -122,6 +181,49 @@ public class PostService {
         }
 
         post.softDelete();
+        TransactionUtils.afterCommit(() -> {
+            postCache.evict(postId);
+            postSearchIndex.remove(postId);
+        });
+    }
+
+    /**
+     * 요약이 없는 기존 글 채우기 (한 번에 batchSize 개씩, 처리한 개수 반환)
+     */
+    @Transactional
+    public int fillMissingSummaries(int batchSize) {
+        List<Post> posts = postRepository.findByExcerptIsNull(PageRequest.of(0, batchSize));
+        posts.forEach(Post::refreshSummary);
+        return posts.size();
+    }
+
+    // 검색 색인에서 뽑은 id 순서 그대로 조회 (IN 조회는 순서 보장 X)
+    private List<PostSummaryResponse> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummaryResponse> postsById = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 검색 색인 반영 + 단건 캐시 무효화 (커밋 이후, 롤백되면 반영 X)
+    private void reindexAfterCommit(Post post) {
+        Long postId = post.getId();
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        LocalDateTime createdAt = post.getCreatedAt();
+        String title = post.getTitle();
+        String content = post.getContent();
+
+        TransactionUtils.afterCommit(() -> {
+            postCache.evict(postId);
+            postSearchIndex.index(postId, categoryId, createdAt, title, content);
+        });
     }
 
     // 카테고리 조회
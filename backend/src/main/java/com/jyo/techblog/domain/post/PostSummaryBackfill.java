@@ -0,0 +1,34 @@
+package com.jyo.techblog.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약 컬럼(excerpt, thumbnailUrl) 추가 전에 작성된 글을 시작 시 채워 넣음
+ * - 한 번 채워지면 이후 시작에는 조회 한 번으로 끝남
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSummaryBackfill {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final PostService postService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        int filled;
+        while ((filled = postService.fillMissingSummaries(BATCH_SIZE)) > 0) {
+            total += filled;
+        }
+
+        if (total > 0) {
+            log.info("[게시글 요약] 기존 글 {}건 요약 생성 완료", total);
+        }
+    }
+}
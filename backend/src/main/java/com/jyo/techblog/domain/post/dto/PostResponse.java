@@ -3,6 +3,7 @@ package com.jyo.techblog.domain.post.dto;
 import com.jyo.techblog.domain.post.Post;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.With;
 
 import java.time.LocalDateTime;
 
@@ -20,7 +21,10 @@ public class PostResponse {
     private String nickname;
     private Long categoryId;
     private String categoryName;
+    @With  // 캐시된 응답의 조회수만 바꿀 때 (PostCache.addViewCount)
     private long viewCount;
+    private long likeCount;
+    private long commentCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -42,6 +46,8 @@ public class PostResponse {
                 categoryId,
                 categoryName,
                 post.getViewCount(),
+                post.getLikeCount(),
+                post.getCommentCount(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
@@ -0,0 +1,29 @@
+package com.jyo.techblog.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 응답 DTO
+ * - 본문(LONGTEXT) 대신 저장해 둔 excerpt, thumbnailUrl 만 내려줌
+ * - JPQL 생성자 프로젝션으로 바로 조회 (엔티티/본문 로딩 X)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String thumbnailUrl;
+    private String nickname;
+    private Long categoryId;
+    private String categoryName;
+    private long viewCount;
+    private long likeCount;
+    private long commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
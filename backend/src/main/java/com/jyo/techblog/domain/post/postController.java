@@ -1,8 +1,10 @@
 package com.jyo.techblog.domain.post;
 
+import com.jyo.techblog.common.cursor.CursorResponse;
 import com.jyo.techblog.common.util.IpUtils;
 import com.jyo.techblog.domain.post.dto.PostCreateRequest;
 import com.jyo.techblog.domain.post.dto.PostResponse;
+import com.jyo.techblog.domain.post.dto.PostSummaryResponse;
 import com.jyo.techblog.domain.post.dto.PostUpdateRequest;
 import com.jyo.techblog.domain.postview.PostViewService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -55,10 +57,12 @@ public class postController {
     ) {
         String ip = IpUtils.getClientIp(request);
 
+        // 없는 글이면 여기서 예외 (조회수 기록 전에 확인)
+        PostResponse response = postService.getPost(id);
+
         // 조회수 증가 (같은 IP면 쿨타임 적용)
         postViewService.increaseViewCountIfNeeded(id, ip);
 
-        PostResponse response = postService.getPost(id);
         return ResponseEntity.ok(response);
     }
 
@@ -68,13 +72,29 @@ public class postController {
      * - /api/posts?keyword=스프링
      */
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getPosts(
+    public ResponseEntity<Page<PostSummaryResponse>> getPosts(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long categoryId,
             @PageableDefault(size = 6, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable
     ) {
-        Page<PostResponse> responses = postService.getPosts(keyword, categoryId, pageable);
+        Page<PostSummaryResponse> responses = postService.getPosts(keyword, categoryId, pageable);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 게시글 커서 목록 조회 (공개) - 깊은 페이지/크롤러용, COUNT 쿼리 없음
+     * - /api/posts/scroll?size=6
+     * - /api/posts/scroll?cursor={이전 응답의 nextCursor}&keyword=스프링
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> scrollPosts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "6") int size
+    ) {
+        CursorResponse<PostSummaryResponse> responses = postService.scrollPosts(keyword, categoryId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
@@ -10,13 +10,30 @@ import lombok.NoArgsConstructor;
 
 /**
  * 게시글 좋아요 엔티티
+ * - (게시글, 회원), (게시글, IP) 당 한 행만 존재 (취소 후 다시 누르면 같은 행을 되살림)
+ * - 회원 좋아요는 ip_address, 비회원 좋아요는 user_id 가 NULL 이라 서로 제약에 걸리지 않음
  */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_like",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_post_like_post_user", columnNames = {"post_id", "user_id"}),
+                @UniqueConstraint(name = "uk_post_like_post_ip", columnNames = {"post_id", "ip_address"})
+        },
+        indexes = {
+                // 목록 페이지 좋아요 상태 (회원/비회원): 누른 글 id 를 인덱스만으로 읽음
+                @Index(name = "idx_post_like_user_deleted_post", columnList = "user_id, deleted, post_id"),
+                @Index(name = "idx_post_like_ip_deleted_post", columnList = "ip_address, deleted, post_id"),
+                // 좋아요 수 보정: 글별 활성 좋아요 COUNT
+                @Index(name = "idx_post_like_post_deleted", columnList = "post_id, deleted")
+        }
+)
 public class PostLike extends BaseTimeEntity {
 
     @Id
+    // INSERT ... ON DUPLICATE KEY UPDATE(네이티브)로만 생성돼서 AUTO_INCREMENT 유지 (시퀀스와 섞으면 id 충돌)
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -2,11 +2,16 @@ package com.jyo.techblog.domain.postlike;
 
 import com.jyo.techblog.common.util.IpUtils;
 import com.jyo.techblog.domain.postlike.dto.PostLikeResponse;
+import com.jyo.techblog.domain.postlike.dto.PostLikeStatusRequest;
+import com.jyo.techblog.domain.postlike.dto.PostLikeStatusResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
@@ -73,4 +78,26 @@ public class PostLikeController {
         Long userId = Long.valueOf(authentication.getName());
         return postLikeService.getStatus(postId, userId, ip);
     }
+
+    /**
+     * 여러 글 좋아요 상태 한 번에 조회 (목록 페이지용)
+     * - URL: POST /posts/likes/status
+     * - 요청: { postIds: [1, 2, ...] } (최대 50개)
+     * - 응답: [{ postId, likeCount, likedByMe }, ...]
+     */
+    @PostMapping("/posts/likes/status")
+    public List<PostLikeStatusResponse> getStatuses(
+            @Valid @RequestBody PostLikeStatusRequest statusRequest,
+            HttpServletRequest request,
+            Authentication authentication
+    ) {
+        String ip = IpUtils.getClientIp(request);
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return postLikeService.getStatuses(statusRequest.getPostIds(), null, ip);
+        }
+
+        Long userId = Long.valueOf(authentication.getName());
+        return postLikeService.getStatuses(statusRequest.getPostIds(), userId, ip);
+    }
 }
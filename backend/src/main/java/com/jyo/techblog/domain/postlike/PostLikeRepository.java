@@ -3,8 +3,13 @@ package com.jyo.techblog.domain.postlike;
 import com.jyo.techblog.domain.post.Post;
 import com.jyo.techblog.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
@@ -14,9 +19,63 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 비회원(IP)이 누른 좋아요가 이미 있는지 확인
     boolean existsByPostAndIpAddressAndDeletedFalse(Post post, String ipAddress);
 
-    // 전체 좋아요 수 (삭제되지 않은 것만)
-    long countByPostAndDeletedFalse(Post post);
+    // 회원 좋아요 추가 - 유니크 제약 (post_id, user_id) 에 걸리면 아무것도 안 바꿈
+    // - INSERT IGNORE 는 FK/NOT NULL/길이 초과까지 경고로 삼켜서, 중복 키만 넘기는 ON DUPLICATE KEY UPDATE 사용
+    // - 1 = 새로 추가, 그 외 = 이미 행이 있음 (활성 or 취소된 좋아요)
+    //   (MySQL 은 JDBC URL 의 useAffectedRows=true 로 0, H2 는 2)
+    // - 없는 글/회원이면 FK 위반 -> DataIntegrityViolationException
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_like (post_id, user_id, ip_address, member_like, deleted, created_at, updated_at)
+        VALUES (:postId, :userId, NULL, true, false, :now, :now)
+        ON DUPLICATE KEY UPDATE id = id
+    """, nativeQuery = true)
+    int insertMemberLikeIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
 
-    // 회원이 누른 좋아요 조회 (취소용)
-    Optional<PostLike> findByPostAndUserAndDeletedFalse(Post post, User user);
+    // 비회원 좋아요 추가 - 유니크 제약 (post_id, ip_address) 에 걸리면 아무것도 안 바꿈 (반환값은 회원과 같음)
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_like (post_id, user_id, ip_address, member_like, deleted, created_at, updated_at)
+        VALUES (:postId, NULL, :ipAddress, false, false, :now, :now)
+        ON DUPLICATE KEY UPDATE id = id
+    """, nativeQuery = true)
+    int insertGuestLikeIfAbsent(@Param("postId") Long postId, @Param("ipAddress") String ipAddress, @Param("now") LocalDateTime now);
+
+    // 취소했던 회원 좋아요 되살리기 - 1 = 되살림, 0 = 이미 활성 상태
+    @Modifying
+    @Query(value = """
+        UPDATE post_like
+        SET deleted = false, updated_at = :now
+        WHERE post_id = :postId AND user_id = :userId AND deleted = true
+    """, nativeQuery = true)
+    int reviveMemberLike(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 회원 좋아요 취소 (soft delete) - 1 = 취소됨, 0 = 활성 좋아요 없음
+    @Modifying
+    @Query(value = """
+        UPDATE post_like
+        SET deleted = true, updated_at = :now
+        WHERE post_id = :postId AND user_id = :userId AND deleted = false
+    """, nativeQuery = true)
+    int cancelMemberLike(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 주어진 글들 중 회원이 좋아요 누른 글 id (IN 쿼리 한 번)
+    @Query("""
+        SELECT l.post.id
+        FROM PostLike l
+        WHERE l.post.id IN :postIds
+        AND l.user.id = :userId
+        AND l.deleted = false
+    """)
+    List<Long> findLikedPostIdsByUser(@Param("postIds") Collection<Long> postIds, @Param("userId") Long userId);
+
+    // 주어진 글들 중 비회원(IP)이 좋아요 누른 글 id (IN 쿼리 한 번)
+    @Query("""
+        SELECT l.post.id
+        FROM PostLike l
+        WHERE l.post.id IN :postIds
+        AND l.ipAddress = :ipAddress
+        AND l.deleted = false
+    """)
+    List<Long> findLikedPostIdsByIp(@Param("postIds") Collection<Long> postIds, @Param("ipAddress") String ipAddress);
 }
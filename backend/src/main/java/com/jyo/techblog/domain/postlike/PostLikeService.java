@@ -1,97 +1,119 @@
 package com.jyo.techblog.domain.postlike;
 
+import com.jyo.techblog.common.util.TransactionUtils;
 import com.jyo.techblog.domain.post.Post;
+import com.jyo.techblog.domain.post.PostCache;
 import com.jyo.techblog.domain.post.PostRepository;
+import com.jyo.techblog.domain.postlike.dto.PostLikeCount;
 import com.jyo.techblog.domain.postlike.dto.PostLikeResponse;
+import com.jyo.techblog.domain.postlike.dto.PostLikeStatusResponse;
 import com.jyo.techblog.domain.user.User;
 import com.jyo.techblog.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostLikeService {
 
+    // post_like.ip_address 컬럼 길이 (IPv6 문자열 최대 길이)
+    private static final int MAX_IP_LENGTH = 45;
+
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostCache postCache;
 
     /**
      * 회원 좋아요
      * - 이미 좋아요 눌렀으면 아무 일도 안하고 상태만 반환
+     * - (post_id, user_id) 유니크 제약 + ON DUPLICATE KEY UPDATE 로 동시에 여러 번 눌러도 한 행만 생김
+     * - 취소했던 좋아요면 같은 행을 되살림
+     * - 게시글/사용자 존재 여부는 미리 조회하지 않고 FK 로 확인 (새 좋아요 기준 쿼리 3번)
      */
     @Transactional
     public PostLikeResponse likeAsMember(Long postId, Long userId) {
-        // 1) 게시글, 사용자 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 1) 없으면 추가 -> 이미 행이 있으면 취소된 좋아요만 되살림
+        LocalDateTime now = LocalDateTime.now();
+        boolean liked;
+        try {
+            liked = postLikeRepository.insertMemberLikeIfAbsent(postId, userId, now) == 1
+                    || postLikeRepository.reviveMemberLike(postId, userId, now) == 1;
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("게시글 또는 사용자를 찾을 수 없습니다.");
+        }
 
-        // 2) 이미 좋아요 눌렀는지 체크
-        boolean exists = postLikeRepository.existsByPostAndUserAndDeletedFalse(post, user);
-        if (!exists) {
-            // 3) 없으면 새로 생성
-            PostLike like = PostLike.member(post, user);
-            postLikeRepository.save(like);
+        // 2) 이미 눌러져 있었으면 카운트 그대로
+        if (!liked) {
+            return PostLikeResponse.of(postRepository.findLikeCountById(postId), true);
         }
 
-        // 4) 최종 카운트 + likedByMe 반환
-        long count = postLikeRepository.countByPostAndDeletedFalse(post);
-        return PostLikeResponse.of(count, true);
+        // 3) 게시글 좋아요 수 +1 (같은 트랜잭션) 후 최종 카운트 반환
+        return PostLikeResponse.of(increaseLikeCount(postId), true);
     }
 
     /**
      * 비회원(IP) 좋아요
      * - 같은 IP로 이미 눌렀으면 아무 일도 안하고 상태만 반환
+     * - (post_id, ip_address) 유니크 제약 + ON DUPLICATE KEY UPDATE (비회원은 취소가 없어서 되살릴 행도 없음)
+     * - 게시글 존재 여부는 FK 로 확인
      */
     @Transactional
     public PostLikeResponse likeAsGuest(Long postId, String ipAddress) {
-        // 1) 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        // 2) 이미 이 IP로 눌렀는지 체크 (memberLike = false 고정)
-        boolean exists = postLikeRepository
-                .existsByPostAndIpAddressAndDeletedFalse(post, ipAddress);
+        // 1) 컬럼보다 긴 IP 는 잘려서 다른 IP 와 겹칠 수 있으므로 거부
+        if (ipAddress == null || ipAddress.isBlank() || ipAddress.length() > MAX_IP_LENGTH) {
+            throw new IllegalArgumentException("IP 주소를 확인할 수 없습니다.");
+        }
 
-        if (!exists) {
-            // 3) 없으면 새로 생성
-            PostLike like = PostLike.guest(post, ipAddress);
-            postLikeRepository.save(like);
+        // 2) 없으면 추가, 이미 이 IP로 눌렀으면 카운트 그대로
+        int inserted;
+        try {
+            inserted = postLikeRepository.insertGuestLikeIfAbsent(postId, ipAddress, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        if (inserted != 1) {
+            return PostLikeResponse.of(postRepository.findLikeCountById(postId), true);
         }
 
-        // 4) 최종 카운트 + likedByMe 반환
-        long count = postLikeRepository.countByPostAndDeletedFalse(post);
-        return PostLikeResponse.of(count, true);
+        // 3) 게시글 좋아요 수 +1 (같은 트랜잭션) 후 최종 카운트 반환
+        return PostLikeResponse.of(increaseLikeCount(postId), true);
     }
 
     /**
      * 회원 좋아요 취소 (soft delete)
      * - 비회원은 취소 기능 X
+     * - 활성 좋아요를 조건부 UPDATE 한 번으로 취소 (동시에 취소해도 카운트는 한 번만 감소)
      */
     @Transactional
     public PostLikeResponse cancelMemberLike(Long postId, Long userId) {
-        // 1) 게시글, 사용자 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 1) 게시글 확인
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
 
-        // 2) 활성화된 좋아요 찾기
-        PostLike like = postLikeRepository.findByPostAndUserAndDeletedFalse(post, user)
-                .orElseThrow(() -> new IllegalArgumentException("좋아요를 누른 이력이 없습니다."));
+        // 2) 활성화된 좋아요 soft delete
+        if (postLikeRepository.cancelMemberLike(postId, userId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("좋아요를 누른 이력이 없습니다.");
+        }
 
-        // 3) soft delete
-        like.softDelete();
+        // 3) 게시글 좋아요 수 -1 (같은 트랜잭션)
+        postRepository.decreaseLikeCount(postId);
+        evictPostAfterCommit(postId);
 
         // 4) 최종 카운트 + likedByMe=false 반환
-        long count = postLikeRepository.countByPostAndDeletedFalse(post);
-        return PostLikeResponse.of(count, false);
+        return PostLikeResponse.of(postRepository.findLikeCountById(postId), false);
     }
 
     /**
@@ -104,8 +126,8 @@ public class PostLikeService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        // 2) 전체 카운트
-        long count = postLikeRepository.countByPostAndDeletedFalse(post);
+        // 2) 전체 카운트 (posts.like_count 그대로 사용, COUNT 쿼리 X)
+        long count = post.getLikeCount();
 
         // 3) 내가 눌렀는지 여부 계산
         boolean likedByMe = false;
@@ -123,4 +145,44 @@ public class PostLikeService {
 
         return PostLikeResponse.of(count, likedByMe);
     }
+
+    /**
+     * 여러 글 좋아요 상태 한 번에 조회 (목록 페이지용)
+     * - 글 수와 상관없이 쿼리 2번: 좋아요 수 IN 조회 + 내가 누른 글 IN 조회
+     * - 없는/삭제된 글은 결과에서 빠짐, 나머지는 요청 순서대로
+     */
+    public List<PostLikeStatusResponse> getStatuses(List<Long> postIds, Long userIdOrNull, String ipAddress) {
+        List<Long> ids = postIds.stream().distinct().toList();
+
+        Map<Long, Long> counts = postRepository.findLikeCountsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostLikeCount::postId, PostLikeCount::likeCount));
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> liked = new HashSet<>(userIdOrNull != null
+                ? postLikeRepository.findLikedPostIdsByUser(counts.keySet(), userIdOrNull)
+                : postLikeRepository.findLikedPostIdsByIp(counts.keySet(), ipAddress));
+
+        List<PostLikeStatusResponse> result = new ArrayList<>(counts.size());
+        for (Long id : ids) {
+            Long count = counts.get(id);
+            if (count != null) {
+                result.add(PostLikeStatusResponse.of(id, count, liked.contains(id)));
+            }
+        }
+        return result;
+    }
+
+    // 좋아요 수 +1 후 최신 값 반환
+    private long increaseLikeCount(Long postId) {
+        postRepository.increaseLikeCount(postId);
+        evictPostAfterCommit(postId);
+        return postRepository.findLikeCountById(postId);
+    }
+
+    // 단건 캐시(PostResponse.likeCount) 무효화
+    private void evictPostAfterCommit(Long postId) {
+        TransactionUtils.afterCommit(() -> postCache.evict(postId));
+    }
 }
@@ -0,0 +1,7 @@
+package com.jyo.techblog.domain.postlike.dto;
+
+/**
+ * 글별 좋아요 수 (JPQL 생성자 프로젝션용)
+ */
+public record PostLikeCount(Long postId, long likeCount) {
+}
@@ -0,0 +1,20 @@
+package com.jyo.techblog.domain.postlike.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 글 좋아요 상태 조회 요청 DTO (목록 한 페이지 분량)
+ */
+@Getter
+@Setter
+public class PostLikeStatusRequest {
+
+    @NotEmpty(message = "게시글 id 목록은 필수입니다.")
+    @Size(max = 50, message = "한 번에 최대 50개까지 조회할 수 있습니다.")
+    private List<Long> postIds;
+}
@@ -0,0 +1,143 @@
+package com.jyo.techblog.domain.postview;
+
+import com.jyo.techblog.domain.post.PostCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * - 조회 요청마다 posts 행을 잠그지 않고, 글별 LongAdder 에 메모리로 누적
+ * - 증가는 잠금 없이 (맵 조회 + LongAdder.add) -> 인기 글에 조회가 몰려도 한 잠금에 줄 서지 않음
+ * - app.view-count.flush-interval 주기로 누적분을 sumThenReset 으로 가져가서 배치 UPDATE 한 번에 반영 (종료 시에도 반영)
+ *   (셀 단위로 가져가서 비우므로 동시에 들어온 조회는 이번 또는 다음 주기에 정확히 한 번만 반영)
+ * - 반영된 글은 단건 응답 캐시(PostCache)의 조회수만 그 자리에서 올림 (캐시는 유지)
+ * - 반영 실패 시 가져간 누적분을 되돌려 다음 주기에 재시도
+ * - flush 중복 실행은 ReentrantLock 으로 막음 (synchronized 안에서 JDBC 를 기다리면 가상 스레드가 캐리어에 고정됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCache postCache;
+
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 조회수 1 증가 (메모리만, DB 접근 X)
+     */
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    /**
+     * 누적된 조회수 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval:5s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 글의 누적분에 count 더하기 (잠금 없음, 처음 조회된 글만 computeIfAbsent 로 엔트리 생성)
+     * - 더한 뒤에 정리된(retired) 엔트리였으면 flush 가 아직 못 가져간 만큼만 새 엔트리로 옮김
+     *   -> 정리 직전에 들어온 조회도 유실/중복 X
+     */
+    private void add(Long postId, long count) {
+        long remaining = count;
+        while (remaining > 0) {
+            PendingViews views = pending.get(postId);
+            if (views == null) {
+                views = pending.computeIfAbsent(postId, id -> new PendingViews());
+            }
+            views.views.add(remaining);
+            if (!views.retired) {
+                return;
+            }
+            remaining = views.views.sumThenReset();
+        }
+    }
+
+    private void flushPending() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, PendingViews> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            PendingViews views = entry.getValue();
+
+            long delta = views.views.sumThenReset();
+            if (delta == 0) {
+                // 두 주기 연속 조회가 없던 글은 정리 (메모리 상한 유지)
+                if (views.idle) {
+                    retire(postId, views);
+                } else {
+                    views.idle = true;
+                }
+                continue;
+            }
+
+            views.idle = false;
+            batchArgs.add(new Object[]{delta, postId});
+            deltas.put(postId, delta);
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            deltas.forEach(postCache::addViewCount);
+        } catch (DataAccessException e) {
+            log.warn("[조회수] {}건 반영 실패 - 다음 주기에 재시도", batchArgs.size(), e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    // 맵에서 먼저 빼고(새 조회는 새 엔트리로) 표시한 뒤, 그 사이 더해진 만큼은 다시 넣음
+    private void retire(Long postId, PendingViews views) {
+        pending.remove(postId, views);
+        views.retired = true;
+        long leftover = views.views.sumThenReset();
+        if (leftover > 0) {
+            add(postId, leftover);
+        }
+    }
+
+    // 글 하나의 누적 조회수 (views: 요청 스레드들이 증가, idle: flush 스레드만 접근)
+    private static final class PendingViews {
+        private final LongAdder views = new LongAdder();
+        private volatile boolean retired;
+        private boolean idle;
+    }
+}
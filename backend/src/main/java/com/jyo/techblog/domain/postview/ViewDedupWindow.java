@@ -0,0 +1,233 @@
+package com.jyo.techblog.domain.postview;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 조회수 쿨타임용 중복 판별 윈도우 (시간 구간별 Bloom 필터)
+ * - (postId, IP 해시) 가 쿨타임 안에 이미 집계됐는지 메모리만으로 판단 (DB 접근 X, IP 원문 저장 X)
+ * - 쿨타임을 sliceCount 개 구간으로 나누고, 구간마다 Bloom 필터 하나 + 현재 구간용 하나를 돌려 씀
+ *   -> 집계된 키는 최소 쿨타임 ~ 최대 쿨타임 + 한 구간 동안 유지
+ * - Bloom 필터 특성상 "처음 본 조회를 중복으로 오판"(= 조회수 과소 집계)만 있고, 중복을 놓치는 경우는 없음
+ * - 메모리 = (sliceCount + 1) x 구간당 비트 수, 오판율 = false-positive-rate (구간당 예상 조회 수 기준)
+ */
+@Component
+public class ViewDedupWindow implements MeterBinder {
+
+    private final long sliceMillis;
+    private final Slice[] slices;
+    private final int bitsPerSlice;
+    private final int hashCount;
+    private final LongSupplier clock;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    @Autowired
+    public ViewDedupWindow(
+            @Value("${app.view-count.dedup.cooldown:10m}") Duration cooldown,
+            @Value("${app.view-count.dedup.slices:10}") int sliceCount,
+            @Value("${app.view-count.dedup.expected-views-per-slice:100000}") long expectedViewsPerSlice,
+            @Value("${app.view-count.dedup.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this(cooldown, sliceCount, expectedViewsPerSlice, falsePositiveRate, System::currentTimeMillis);
+    }
+
+    ViewDedupWindow(
+            Duration cooldown,
+            int sliceCount,
+            long expectedViewsPerSlice,
+            double falsePositiveRate,
+            LongSupplier clock
+    ) {
+        if (sliceCount < 1 || expectedViewsPerSlice < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("조회수 중복 판별 설정이 올바르지 않습니다.");
+        }
+
+        this.sliceMillis = Math.max(1, cooldown.toMillis() / sliceCount);
+        this.clock = clock;
+
+        // 조회 한 번에 (sliceCount + 1)개 필터를 보므로, 구간당 오판율은 전체 목표치를 나눠서 잡음
+        double perSliceRate = falsePositiveRate / (sliceCount + 1);
+        long bits = (long) Math.ceil(-expectedViewsPerSlice * Math.log(perSliceRate) / (Math.log(2) * Math.log(2)));
+        this.bitsPerSlice = (int) Math.min(Integer.MAX_VALUE - 63, (bits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitsPerSlice / expectedViewsPerSlice * Math.log(2)));
+
+        this.slices = new Slice[sliceCount + 1];
+        for (int i = 0; i < slices.length; i++) {
+            slices[i] = new Slice(bitsPerSlice / 64);
+        }
+    }
+
+    /**
+     * 쿨타임 안에 처음 본 (postId, ip) 면 기록 후 true, 이미 있으면 false
+     */
+    public boolean markIfAbsent(long postId, String ipAddress) {
+        checks.increment();
+
+        long epoch = clock.getAsLong() / sliceMillis;
+        long hash = hash(postId, ipAddress);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        Slice current = currentSlice(epoch);
+        for (Slice slice : slices) {
+            if (slice != current && isLive(slice, epoch) && slice.mightContain(h1, h2)) {
+                duplicates.increment();
+                return false;
+            }
+        }
+
+        if (!current.put(h1, h2)) {
+            duplicates.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 필터가 차지하는 메모리 (bytes)
+     */
+    public long memoryBytes() {
+        return (long) slices.length * (bitsPerSlice / 8);
+    }
+
+    /**
+     * 현재 채워진 비트 기준 예상 오판율 (처음 본 조회를 중복으로 볼 확률)
+     */
+    public double expectedFalsePositiveRate() {
+        long epoch = clock.getAsLong() / sliceMillis;
+        double notFalsePositive = 1.0;
+        for (Slice slice : slices) {
+            if (!isLive(slice, epoch)) {
+                continue;
+            }
+            double fill = (double) slice.bitsSet.sum() / bitsPerSlice;
+            notFalsePositive *= 1.0 - Math.pow(fill, hashCount);
+        }
+        return 1.0 - notFalsePositive;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("view.dedup.memory", this, ViewDedupWindow::memoryBytes)
+                .baseUnit("bytes")
+                .description("조회수 중복 판별 필터 메모리")
+                .register(registry);
+        Gauge.builder("view.dedup.false.positive.rate", this, ViewDedupWindow::expectedFalsePositiveRate)
+                .description("처음 본 조회를 중복으로 오판할 예상 확률")
+                .register(registry);
+        FunctionCounter.builder("view.dedup.checks", checks, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("view.dedup.duplicates", duplicates, LongAdder::sum)
+                .register(registry);
+    }
+
+    // 현재 구간 필터 (새 구간으로 넘어가면 가장 오래된 필터를 비워서 재사용)
+    private Slice currentSlice(long epoch) {
+        Slice slice = slices[(int) Math.floorMod(epoch, (long) slices.length)];
+        if (slice.epoch != epoch) {
+            synchronized (slice) {
+                if (slice.epoch != epoch) {
+                    slice.clear();
+                    slice.epoch = epoch;
+                }
+            }
+        }
+        return slice;
+    }
+
+    private boolean isLive(Slice slice, long epoch) {
+        long age = epoch - slice.epoch;
+        return age >= 0 && age < slices.length;
+    }
+
+    // postId + IP 문자열 -> 64비트 해시 (FNV-1a 후 murmur3 fmix64 로 섞음)
+    static long hash(long postId, String ipAddress) {
+        long h = 0xcbf29ce484222325L ^ (postId * 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < ipAddress.length(); i++) {
+            h ^= ipAddress.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 한 구간의 Bloom 필터 (비트는 CAS 로만 세팅)
+     */
+    private final class Slice {
+
+        private final AtomicLongArray words;
+        private final LongAdder bitsSet = new LongAdder();
+        private volatile long epoch = Long.MIN_VALUE;
+
+        private Slice(int wordCount) {
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        boolean mightContain(int h1, int h2) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = bitIndex(h1, h2, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 새로 켠 비트가 하나라도 있으면 true (= 이 구간에 처음 들어온 키)
+        boolean put(int h1, int h2) {
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                int bit = bitIndex(h1, h2, i);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+
+                if ((current & mask) == 0) {
+                    bitsSet.increment();
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        void clear() {
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, 0L);
+            }
+            bitsSet.reset();
+        }
+
+        // double hashing: h1 + i * h2
+        private int bitIndex(int h1, int h2, int i) {
+            int combined = h1 + i * h2;
+            if (combined < 0) {
+                combined = ~combined;
+            }
+            return combined % bitsPerSlice;
+        }
+    }
+}
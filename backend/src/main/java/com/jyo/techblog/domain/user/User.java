@@ -1,31 +1,40 @@
 package com.jyo.techblog.domain.user;
 
 import com.jyo.techblog.common.BaseTimeEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jyo.techblog.domain.post.Post;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 블로그 회원 엔티티
+ * - 2차 캐시(user 리전): 작성자/회원 findById 는 캐시 히트면 SQL 없음 (엔티티 수정은 커밋 시 캐시에도 반영)
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users")  // user는 예약어일 수 있기 때문에 users로
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 50개씩 미리 할당받는 pooled 시퀀스 (MySQL 은 user_seq 테이블로 대체) -> INSERT 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
     private String email;  // 로그인 ID
 
+    @JsonIgnore  // 해시라도 응답/직렬화에 절대 포함 X
     @Column(nullable = false)
     private String password;  // BCrypt로 해시된 비밀번호
 
@@ -1,7 +1,9 @@
 package com.jyo.techblog.file;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -26,16 +28,33 @@ public class ImageController {
     /**
      * 이미지 업로드 (로그인 필요)
      * - 요청: multipart/form-data, key = "file"
-     * - 응답: s3 URL
+     * - 응답: s3 URL + 리사이즈 버전 URL
      */
     @PostMapping("/api/files/images")
     public ResponseEntity<ImageUploadResponse> uploadImage(
             Authentication authentication,
             @RequestParam("file")MultipartFile file
     ) throws IOException {
-        String url = imageStorageService.storeImage(file);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new ImageUploadResponse(url));
+        Long userId = (Long) authentication.getPrincipal();
+        ImageUploadResponse response = imageStorageService.storeImage(userId, file);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    public record ImageUploadResponse(String url) {}
+    /**
+     * 이미지 스트리밍 업로드 (로그인 필요)
+     * - 요청: 본문 = 이미지 바이트 그대로, Content-Type = image/jpeg, png, gif, webp (확장자도 이걸로 정함)
+     * - multipart 처리 없이 본문을 S3로 바로 흘려보냄 -> 파일 크기와 상관없이 서버 메모리 일정
+     * - 응답: s3 URL + 리사이즈 버전 URL
+     */
+    @PostMapping(path = "/api/files/images/stream", consumes = "image/*")
+    public ResponseEntity<ImageUploadResponse> uploadImageStream(
+            Authentication authentication,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        Long userId = (Long) authentication.getPrincipal();
+        ImageUploadResponse response =
+                imageStorageService.storeImage(userId, request.getInputStream(), contentType);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
 }
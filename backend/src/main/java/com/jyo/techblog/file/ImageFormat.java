@@ -0,0 +1,61 @@
+package com.jyo.techblog.file;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드/서빙을 허용하는 이미지 형식 (화이트리스트)
+ * - 저장 확장자는 Content-Type 으로만 정함 (클라이언트 파일명 X) -> 같은 내용은 항상 같은 키
+ * - SVG, HTML 등 브라우저가 문서로 실행할 수 있는 형식은 받지 않음
+ */
+enum ImageFormat {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    GIF("image/gif", ".gif"),
+    WEBP("image/webp", ".webp");
+
+    private final String contentType;
+    private final String extension;
+
+    ImageFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    // "image/png; charset=..." 처럼 파라미터가 붙어도 타입만 비교
+    static Optional<ImageFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        int semicolon = contentType.indexOf(';');
+        String type = (semicolon < 0 ? contentType : contentType.substring(0, semicolon))
+                .trim()
+                .toLowerCase(Locale.ROOT);
+        for (ImageFormat format : values()) {
+            if (format.contentType.equals(type)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 저장된 파일 이름의 확장자로 형식 찾기 (리사이즈 버전 "abc_w320.jpg" 포함)
+    static Optional<ImageFormat> fromFilename(String filename) {
+        String lower = filename.toLowerCase(Locale.ROOT);
+        for (ImageFormat format : values()) {
+            if (lower.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,51 +1,120 @@
 package com.jyo.techblog.file;
 
-import io.awspring.cloud.s3.S3Template;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
- * 이미지 파일을 S3에 업로드 후 URL 반환
+ * 이미지 파일을 저장소(S3 또는 로컬 디스크)에 업로드 후 URL 반환
+ * - 내용(SHA-256) 기반 키 "images/{해시}.{확장자}" 로 저장 -> 같은 이미지를 다시 올리면 저장 없이 기존 URL
+ * - JPEG/PNG/GIF/WebP 만 허용, 확장자는 Content-Type 으로 고정 (ImageFormat)
+ * - 업로드 후 리사이즈 버전(썸네일/카드/본문 폭)도 만들어서 URL 함께 반환
+ * - 회원당 동시 업로드는 max-per-user 개까지 (한 회원이 업로드 버퍼를 전부 잡지 못하게)
  */
 @Service
-@RequiredArgsConstructor
 public class ImageStorageService {
 
-    private final S3Template s3Template;
+    private static final String IMAGE_PREFIX = "images/";
 
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final ObjectStorage objectStorage;
+    private final ImageVariantProcessor imageVariantProcessor;
 
-    // S3에 이미지 업로드 후 URL 반환
-    public String storeImage(MultipartFile file) throws IOException {
+    // 이미 올라간 이미지의 리사이즈 버전 URL (중복 업로드면 다시 만들지 않음)
+    private final Cache<String, Map<String, String>> variantUrls;
+
+    // 회원별 진행 중인 업로드 수
+    private final Map<Long, Integer> activeUploads = new ConcurrentHashMap<>();
+    private final int maxUploadsPerUser;
+
+    public ImageStorageService(
+            ObjectStorage objectStorage,
+            ImageVariantProcessor imageVariantProcessor,
+            @Value("${app.upload.known-keys:100000}") long knownKeysSize,
+            @Value("${app.upload.max-per-user:1}") int maxUploadsPerUser
+    ) {
+        this.objectStorage = objectStorage;
+        this.imageVariantProcessor = imageVariantProcessor;
+        this.maxUploadsPerUser = maxUploadsPerUser;
+        this.variantUrls = Caffeine.newBuilder()
+                .maximumSize(knownKeysSize)
+                .build();
+    }
+
+    // 저장소에 이미지 업로드 후 URL 반환
+    public ImageUploadResponse storeImage(Long userId, MultipartFile file) throws IOException {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어 있습니다.");
         }
 
-        // 확장자 추출
-        String originalFilename = file.getOriginalFilename();
-        String ext = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            ext = originalFilename.substring(originalFilename.lastIndexOf('.'));
+        try (InputStream in = file.getInputStream()) {
+            return storeImage(userId, in, file.getContentType());
+        }
+    }
+
+    /**
+     * 요청 본문을 그대로 저장소에 스트리밍 업로드 후 URL 반환
+     * - multipart 파싱(임시 파일/메모리 적재) 없이 파트 단위로 바로 전송
+     */
+    public ImageUploadResponse storeImage(Long userId, InputStream body, String contentType) throws IOException {
+        ImageFormat format = ImageFormat.fromContentType(contentType)
+                .orElseThrow(() -> new IllegalArgumentException("JPEG, PNG, GIF, WebP 이미지만 업로드할 수 있습니다."));
+
+        acquireUploadSlot(userId);
+        try {
+            return store(body, format);
+        } finally {
+            releaseUploadSlot(userId);
+        }
+    }
+
+    private ImageUploadResponse store(InputStream body, ImageFormat format) throws IOException {
+        StoredObject stored = objectStorage.store(IMAGE_PREFIX, format.extension(), format.contentType(), body);
+
+        // 같은 내용이 이미 있었고 버전 정보도 알고 있으면 그대로 사용
+        Map<String, String> variants = stored.deduplicated() ? variantUrls.getIfPresent(stored.key()) : null;
+        if (variants == null) {
+            variants = createVariants(stored.key(), format.contentType());
+        }
+
+        return new ImageUploadResponse(toUrl(stored.key()), variants);
+    }
+
+    // 예산 안에 만들어진 리사이즈 버전 URL (label -> URL)
+    // - 전부 만들어졌을 때만 기억 (일부만 있는 결과를 캐시하면 이후 중복 업로드도 계속 빠진 채로 응답)
+    private Map<String, String> createVariants(String key, String contentType) {
+        ImageVariantProcessor.Result result = imageVariantProcessor.process(key, contentType);
+
+        Map<String, String> variants = new LinkedHashMap<>();
+        result.keys().forEach((variant, variantKey) -> variants.put(variant.label(), toUrl(variantKey)));
+
+        if (result.complete()) {
+            variantUrls.put(key, variants);
         }
+        return variants;
+    }
 
-        // S3에 저장될 파일명 (UUID 사용) -> "images/uuid.jpg" 경로로 저장
-        String storeFileName = "images/" + UUID.randomUUID() + ext;
+    private void acquireUploadSlot(Long userId) {
+        if (activeUploads.merge(userId, 1, Integer::sum) > maxUploadsPerUser) {
+            releaseUploadSlot(userId);
+            throw new IllegalStateException("진행 중인 업로드가 끝난 뒤 다시 시도해주세요.");
+        }
+    }
 
-        // S3 업로드 (InputStream 방식)
-        s3Template.upload(bucketName, storeFileName, file.getInputStream());
+    private void releaseUploadSlot(Long userId) {
+        activeUploads.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+    }
 
-        // 업로드된 파일의 전체 URL 반환
-        // (S3Template이 자동으로 URL을 만들어주긴 하지만, 리전별 형식이 다를 수 있어 직접 조합이 확실할 때가 많음)
-        // 일단 s3Template.download(bucket, key).getURL() 기능도 있지만
-        // public 읽기 권한을 줬다면 아래처럼 URL을 바로 만드는 게 효율적임
-        return String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s", bucketName, storeFileName);
+    private String toUrl(String key) {
+        return objectStorage.urlFor(key);
     }
 
 }
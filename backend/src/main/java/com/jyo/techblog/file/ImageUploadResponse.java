@@ -0,0 +1,11 @@
+package com.jyo.techblog.file;
+
+import java.util.Map;
+
+/**
+ * 이미지 업로드 응답
+ * - url: 원본
+ * - variants: 리사이즈 버전 (label -> URL), 처리 예산 안에 끝난 것만 (원본보다 작은 폭만 생성)
+ */
+public record ImageUploadResponse(String url, Map<String, String> variants) {
+}
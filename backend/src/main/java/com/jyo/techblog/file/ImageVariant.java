@@ -0,0 +1,38 @@
+package com.jyo.techblog.file;
+
+/**
+ * 업로드 이미지에서 만드는 리사이즈 버전 (가로 최대 폭 기준, 비율 유지)
+ * - 원본 옆에 "{원본 키 확장자 앞}_w{폭}.{확장자}" 로 저장 -> 원본 키만 알면 URL 계산 가능
+ *   ex) images/abc.jpg -> images/abc_w320.jpg
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumbnail", 320),  // 목록 썸네일
+    CARD("card", 640),            // 카드/모바일 본문
+    CONTENT("content", 1280);     // 데스크톱 본문
+
+    private final String label;
+    private final int maxWidth;
+
+    ImageVariant(String label, int maxWidth) {
+        this.label = label;
+        this.maxWidth = maxWidth;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    public String keyFor(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        if (dot <= slash) {
+            return originalKey + "_w" + maxWidth;
+        }
+        return originalKey.substring(0, dot) + "_w" + maxWidth + originalKey.substring(dot);
+    }
+}
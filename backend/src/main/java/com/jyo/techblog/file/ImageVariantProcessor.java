@@ -0,0 +1,305 @@
+package com.jyo.techblog.file;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드된 원본 이미지로 리사이즈 버전(ImageVariant)을 만들어 원본 옆에 저장
+ * - 업로드 1건 = 작업 1개: 원본을 한 번 읽어 디코딩하고, 버전별 리사이즈 + 인코딩 + 저장은 병렬로
+ *   - 버전 작업은 별도 리사이즈 풀(resize-threads, 대기열 없음)에서 실행, 빈 스레드가 없으면 디코딩한 작업 스레드가 직접 실행
+ *   - 디코딩한 작업은 자기 버전이 전부 끝날 때까지 기다림
+ *     -> 디코딩된 비트맵은 실행 중인 작업에만 있음 (메모리 상한 = threads x max-pixels x 4B, 대기열에는 키만)
+ * - 작업 풀(threads + queue-capacity)이 가득 차면 버전 생성은 건너뜀 (원본 업로드는 성공)
+ * - 요청 스레드는 budget 까지만 기다리고, 그 안에 끝난 버전만 응답에 포함 (나머지는 뒤에서 계속 저장)
+ * - GIF(애니메이션) 등 JPEG/PNG 외 형식, 원본보다 큰 폭은 만들지 않음
+ */
+@Slf4j
+@Component
+public class ImageVariantProcessor implements MeterBinder, AutoCloseable {
+
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png");
+
+    private final ObjectStorage objectStorage;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor resizeExecutor;
+    private final long budgetNanos;
+    private final long maxPixels;
+
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer processingTimer;
+
+    public ImageVariantProcessor(
+            ObjectStorage objectStorage,
+            @Value("${app.image.variants.threads:2}") int threads,
+            @Value("${app.image.variants.queue-capacity:16}") int queueCapacity,
+            @Value("${app.image.variants.budget:1500ms}") Duration budget,
+            @Value("${app.image.variants.max-pixels:40000000}") long maxPixels,
+            @Value("${app.image.variants.resize-threads:4}") int resizeThreads
+    ) {
+        this.objectStorage = objectStorage;
+        this.budgetNanos = budget.toNanos();
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new VariantThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // 대기열 없이 빈 스레드에만 넘기고, 없으면 호출한 작업 스레드가 실행 (비트맵이 대기열에 쌓이지 않게)
+        this.resizeExecutor = new ThreadPoolExecutor(
+                1, resizeThreads,
+                30L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new VariantThreadFactory("image-resize-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.resizeExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 원본(key)의 리사이즈 버전 생성
+     *
+     * @return budget 안에 저장까지 끝난 버전 -> 저장된 키 + 만들 수 있는 버전이 전부 끝났는지
+     */
+    public Result process(String key, String contentType) {
+        if (contentType == null || !SUPPORTED_TYPES.contains(contentType)) {
+            return Result.COMPLETE_EMPTY;
+        }
+        String format = contentType.substring("image/".length());
+        long start = System.nanoTime();
+
+        // 1) 버전별 결과 (작업 하나가 끝나는 대로 하나씩 완료)
+        Map<ImageVariant, CompletableFuture<String>> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            variants.put(variant, new CompletableFuture<>());
+        }
+
+        // 2) 디코딩 + 전 버전 생성을 작업 하나로 제출 (거절될 수 있는 제출은 여기 한 번뿐 -> 거절돼도 남는 작업 X)
+        try {
+            executor.execute(() -> createVariants(key, format, variants));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[이미지 버전] 작업 풀이 가득 차서 건너뜀 key={}", key);
+            return Result.INCOMPLETE_EMPTY;
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(variants.values().toArray(CompletableFuture[]::new));
+        all.whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                log.warn("[이미지 버전] 생성 실패 key={}", key, ex);
+            } else if (processingTimer != null) {
+                processingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+
+        // 3) 예산만큼만 기다림
+        try {
+            all.get(budgetNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 끝난 것만 응답에 포함
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<ImageVariant, String> done = new EnumMap<>(ImageVariant.class);
+        variants.forEach((variant, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally() && future.join() != null) {
+                done.put(variant, future.join());
+            }
+        });
+        return new Result(done, all.isDone() && !all.isCompletedExceptionally());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        processingTimer = Timer.builder("image.variants")
+                .description("원본 디코딩부터 모든 버전 저장까지 걸린 시간")
+                .register(registry);
+        Gauge.builder("image.variants.queue", executor, pool -> pool.getQueue().size())
+                .description("이미지 버전 작업 대기열 길이")
+                .register(registry);
+        FunctionCounter.builder("image.variants.rejected", rejected, LongAdder::sum)
+                .description("작업 풀 포화로 건너뛴 업로드 수")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        resizeExecutor.shutdown();
+    }
+
+    // 작업 스레드에서 실행: 디코딩 한 번 후 버전별로 병렬 생성/저장, 전부 끝날 때까지 대기 (실패한 버전만 예외로 완료)
+    private void createVariants(String key, String format, Map<ImageVariant, CompletableFuture<String>> variants) {
+        BufferedImage image;
+        try {
+            image = decode(key);
+        } catch (RuntimeException e) {
+            variants.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+
+        // 마지막 하나는 이 스레드가 직접 (어차피 기다리는 동안 놀게 되므로)
+        List<Map.Entry<ImageVariant, CompletableFuture<String>>> entries = List.copyOf(variants.entrySet());
+        for (int i = 0; i < entries.size(); i++) {
+            ImageVariant variant = entries.get(i).getKey();
+            CompletableFuture<String> future = entries.get(i).getValue();
+            Runnable task = () -> {
+                try {
+                    future.complete(resizeAndStore(image, key, variant, format));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            };
+
+            if (i == entries.size() - 1) {
+                task.run();
+            } else {
+                resizeExecutor.execute(task);
+            }
+        }
+
+        // 비트맵을 쓰는 버전 작업이 끝나기 전에 다음 업로드를 디코딩하지 않도록
+        CompletableFuture.allOf(variants.values().toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+    }
+
+    private BufferedImage decode(String key) {
+        try (InputStream in = objectStorage.open(key);
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                // 디코딩 전에 해상도 확인 (작은 파일로 거대한 비트맵을 만드는 이미지 방지)
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 원본보다 좁은 버전만 생성, 저장한 키 반환 (만들 필요 없으면 null)
+    private String resizeAndStore(BufferedImage source, String key, ImageVariant variant, String format) {
+        if (source.getWidth() <= variant.maxWidth()) {
+            return null;
+        }
+
+        BufferedImage resized = resize(source, variant.maxWidth());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(resized, format, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String variantKey = variant.keyFor(key);
+        try {
+            objectStorage.put(variantKey, "image/" + format, out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return variantKey;
+    }
+
+    /**
+     * 비율 유지하며 가로 width 로 축소
+     * - 한 번에 크게 줄이면 계단 현상이 심해서 절반씩 줄이다가 마지막에 맞춤
+     */
+    static BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != width || h != height);
+
+        return current;
+    }
+
+    /**
+     * 버전 생성 결과
+     * - keys: 저장까지 끝난 버전 -> 키 (원본보다 넓어서 안 만든 버전은 없음)
+     * - complete: 만들어야 할 버전이 모두 저장됨 (false = 예산 초과/실패/풀 포화로 일부만 있을 수 있음)
+     */
+    public record Result(Map<ImageVariant, String> keys, boolean complete) {
+        static final Result COMPLETE_EMPTY = new Result(Map.of(), true);
+        static final Result INCOMPLETE_EMPTY = new Result(Map.of(), false);
+    }
+
+    private static final class VariantThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private VariantThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
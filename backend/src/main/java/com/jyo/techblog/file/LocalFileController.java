@@ -0,0 +1,154 @@
+package com.jyo.techblog.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 저장소 파일 서빙 (app.storage.type=local 일 때만)
+ * - Tomcat sendfile 지원 시 파일 경로만 넘기고 커널이 소켓으로 바로 복사 (JVM 힙/버퍼 복사 X)
+ * - 그 외에는 FileChannel.transferTo 로 응답 스트림에 전송
+ * - 단일 Range 요청(206), ETag/If-None-Match(304), 1년 immutable Cache-Control (키가 내용 해시)
+ * - Content-Type 은 허용 이미지 형식(ImageFormat)만, 그 외는 octet-stream + attachment (문서로 열리지 않게)
+ *   + 항상 nosniff (브라우저가 내용을 보고 HTML/스크립트로 추측하지 않게)
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalFileController {
+
+    private static final String PATH_PREFIX = "/files/";
+
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants 와 동일)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @RequestMapping(path = "/files/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = UriUtils.decode(
+                request.getRequestURI().substring(request.getContextPath().length() + PATH_PREFIX.length()),
+                StandardCharsets.UTF_8);
+        Path file = localObjectStorage.resolve(key);
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        String eTag = "\"" + file.getFileName() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ObjectStorage.IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        ImageFormat.fromFilename(file.getFileName().toString()).ifPresentOrElse(
+                format -> response.setContentType(format.contentType()),
+                () -> {
+                    response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+                    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+                });
+
+        // 1) 캐시된 내용과 같으면 본문 없이 304
+        if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 2) Range (단일 구간만, 여러 구간 요청은 전체 200 으로 응답)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && range.startsWith("bytes=") && !range.contains(",")) {
+            long[] parsed = parseRange(range.substring("bytes=".length()), length);
+            if (parsed == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            start = parsed[0];
+            end = parsed[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentLengthLong(end - start + 1);
+
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        // 3) 본문 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, end - start + 1, response);
+    }
+
+    private void transfer(Path file, long position, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;  // 그 사이 파일이 잘린 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * "start-end", "start-", "-suffix" -> [start, end] (만족할 수 없으면 null)
+     */
+    static long[] parseRange(String spec, long length) {
+        int dash = spec.indexOf('-');
+        if (dash < 0 || length == 0) {
+            return null;
+        }
+        try {
+            String from = spec.substring(0, dash).trim();
+            String to = spec.substring(dash + 1).trim();
+
+            if (from.isEmpty()) {
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0) {
+                    return null;
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+
+            long start = Long.parseLong(from);
+            long end = to.isEmpty() ? length - 1 : Math.min(Long.parseLong(to), length - 1);
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.jyo.techblog.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 로컬 디스크 저장소 (app.storage.type=local) - S3 없이 로컬 개발 / 직접 설치 운영용
+ * - app.upload.dir 아래에 키 경로 그대로 저장, URL 은 app.upload.url-prefix + 키 (/files/** 로 서빙)
+ * - 임시 파일에 쓰면서 SHA-256 계산 -> 내용 기반 키로 이동 (같은 파일이 이미 있으면 임시 파일만 삭제)
+ * - 메모리는 복사 버퍼 하나 (파일 크기와 무관)
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final String urlPrefix;
+    private final long maxSize;
+
+    public LocalObjectStorage(
+            @Value("${app.upload.dir:uploads}") String dir,
+            @Value("${app.upload.url-prefix:/files}") String urlPrefix,
+            @Value("${app.upload.max-size:50MB}") DataSize maxSize
+    ) throws IOException {
+        this.root = Files.createDirectories(Path.of(dir)).toAbsolutePath().normalize();
+        this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix.substring(0, urlPrefix.length() - 1) : urlPrefix;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    @Override
+    public StoredObject store(String keyPrefix, String extension, String contentType, InputStream in)
+            throws IOException {
+        MessageDigest sha256 = sha256();
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            long total = 0;
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxSize) {
+                        throw new IllegalArgumentException(
+                                "파일 크기는 " + (maxSize / (1024 * 1024)) + "MB 를 넘을 수 없습니다.");
+                    }
+                    sha256.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("파일이 비어 있습니다.");
+            }
+
+            String key = keyPrefix + HexFormat.of().formatHex(sha256.digest()) + extension;
+            Path target = resolve(key);
+            if (Files.exists(target)) {
+                return new StoredObject(key, total, true);
+            }
+
+            Files.createDirectories(target.getParent());
+            // 같은 내용이 동시에 올라와 덮어써도 결과는 같음
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return new StoredObject(key, total, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void put(String key, String contentType, byte[] content) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public String urlFor(String key) {
+        return urlPrefix + "/" + key;
+    }
+
+    /**
+     * 키 -> 실제 파일 경로 (저장 디렉터리 밖으로 나가는 키는 거부)
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jyo.techblog.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일 저장소 (app.storage.type 으로 선택: s3 | local)
+ * - 키는 "images/{sha256}.png" 처럼 내용 기반 -> 같은 키의 내용은 바뀌지 않음
+ */
+public interface ObjectStorage {
+
+    // 키가 내용 해시라 같은 URL 의 내용은 절대 바뀌지 않음 -> 브라우저/CDN 1년 캐시
+    String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /**
+     * InputStream 을 끝까지 읽으며 SHA-256 을 계산해 "{keyPrefix}{해시}{extension}" 에 저장 (스트림은 닫지 않음)
+     * - 같은 내용이 이미 있으면 저장하지 않고 기존 키 반환
+     */
+    StoredObject store(String keyPrefix, String extension, String contentType, InputStream in) throws IOException;
+
+    /**
+     * 정해진 키에 작은 파일 저장 (리사이즈 버전 등)
+     */
+    void put(String key, String contentType, byte[] content) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    String urlFor(String key);
+}
@@ -0,0 +1,306 @@
+package com.jyo.techblog.file;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * S3 저장소 (app.storage.type=s3, 기본값)
+ * - 요청 본문(InputStream)을 파일 전체를 메모리/디스크에 모으지 않고 S3에 바로 올림
+ * - part-size 만큼 읽을 때마다 S3 multipart upload 의 파트 하나로 전송 -> 업로드 1건당 메모리 = 버퍼 1개 (파일 크기와 무관)
+ * - 버퍼는 최대 buffers 개까지만 만들어 돌려 씀 -> 동시 업로드가 늘어도 전체 메모리 = buffers x part-size
+ *   (버퍼를 buffer-wait 안에 못 받으면 UploadBufferBusyException -> 503)
+ * - 파트 하나를 part-read-timeout 안에 못 채우면 UploadTimeoutException(408)으로 중단
+ *   -> 느리게(일부러 조금씩) 보내는 업로드가 버퍼를 오래 잡지 못함 (아예 멈춘 소켓은 Tomcat connection-timeout)
+ * - 첫 버퍼 안에 다 들어오는 작은 파일은 PutObject 한 번으로 끝냄
+ * - 중간에 실패하거나 max-size 를 넘으면 multipart upload 를 abort (S3에 조각이 남지 않게)
+ * - 읽으면서 SHA-256 을 계산해 내용 기반 키로 저장 -> 같은 파일은 한 번만 저장 (known-keys 개까지 메모리 인덱스)
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage, MeterBinder {
+
+    // 해시를 알기 전 큰 파일을 올려두는 곳 (실패로 남은 객체는 버킷 수명 주기 규칙으로 정리)
+    private static final String STAGING_PREFIX = "staging/";
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final int partSize;
+    private final long maxSize;
+    private final long bufferWaitNanos;
+    private final long partReadTimeoutNanos;
+
+    private final Semaphore permits;
+    private final int bufferCount;
+    private final ConcurrentLinkedQueue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final Cache<String, Boolean> knownKeys;
+
+    @Autowired
+    public S3ObjectStorage(
+            S3Client s3Client,
+            @Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+            @Value("${app.upload.part-size:5MB}") DataSize partSize,
+            @Value("${app.upload.buffers:4}") int buffers,
+            @Value("${app.upload.max-size:50MB}") DataSize maxSize,
+            @Value("${app.upload.buffer-wait:2s}") Duration bufferWait,
+            @Value("${app.upload.part-read-timeout:10s}") Duration partReadTimeout,
+            @Value("${app.upload.known-keys:100000}") long knownKeysSize
+    ) {
+        // S3 multipart 는 마지막 파트 외에는 5MB 이상이어야 함
+        if (partSize.toBytes() < DataSize.ofMegabytes(5).toBytes() || partSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("app.upload.part-size 는 5MB 이상이어야 합니다.");
+        }
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = (int) partSize.toBytes();
+        this.maxSize = maxSize.toBytes();
+        this.bufferWaitNanos = bufferWait.toNanos();
+        this.partReadTimeoutNanos = partReadTimeout.toNanos();
+        this.bufferCount = buffers;
+        this.permits = new Semaphore(buffers);
+        this.knownKeys = Caffeine.newBuilder()
+                .maximumSize(knownKeysSize)
+                .build();
+    }
+
+    /**
+     * 내용 기반 키로 저장 (ObjectStorage#store)
+     * - 파트 하나 안에 끝나는 파일: 해시 후 PutObject (중복이면 PUT 자체를 안 함)
+     * - 큰 파일: 해시를 모르는 채로 올려야 해서 staging 키로 multipart upload
+     *   -> 끝에서 중복이면 abort, 아니면 complete 후 최종 키로 서버 측 복사
+     */
+    @Override
+    public StoredObject store(String keyPrefix, String extension, String contentType, InputStream in)
+            throws IOException {
+        MessageDigest sha256 = sha256();
+        byte[] buffer = acquireBuffer();
+        try {
+            int read = readPart(in, buffer);
+            if (read == 0) {
+                throw new IllegalArgumentException("파일이 비어 있습니다.");
+            }
+            checkSize(read);
+            sha256.update(buffer, 0, read);
+
+            // 파트 하나 안에 끝나면 PutObject 한 번
+            if (read < partSize) {
+                String key = keyPrefix + HexFormat.of().formatHex(sha256.digest()) + extension;
+                if (exists(key)) {
+                    return new StoredObject(key, read, true);
+                }
+                s3Client.putObject(
+                        b -> b.bucket(bucketName).key(key).contentType(contentType).contentLength((long) read)
+                                .cacheControl(IMMUTABLE_CACHE_CONTROL),
+                        body(buffer, read));
+                knownKeys.put(key, Boolean.TRUE);
+                return new StoredObject(key, read, false);
+            }
+
+            return uploadMultipart(keyPrefix, extension, contentType, in, buffer, read, sha256);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    @Override
+    public void put(String key, String contentType, byte[] content) {
+        s3Client.putObject(
+                b -> b.bucket(bucketName).key(key).contentType(contentType).cacheControl(IMMUTABLE_CACHE_CONTROL),
+                RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(b -> b.bucket(bucketName).key(key));
+    }
+
+    // 업로드된 파일의 전체 URL 반환
+    // (S3Template이 자동으로 URL을 만들어주긴 하지만, 리전별 형식이 다를 수 있어 직접 조합이 확실할 때가 많음)
+    // public 읽기 권한을 줬다면 아래처럼 URL을 바로 만드는 게 효율적임
+    @Override
+    public String urlFor(String key) {
+        return String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s", bucketName, key);
+    }
+
+    /**
+     * 이미 저장된 키인지 (메모리 인덱스 -> 없으면 HeadObject)
+     * - 없는 키에 404 를 받으려면 s3:ListBucket 권한 필요 (없으면 S3 가 403 을 돌려줘서 구분 불가)
+     */
+    public boolean exists(String key) {
+        if (knownKeys.getIfPresent(key) != null) {
+            return true;
+        }
+        try {
+            s3Client.headObject(b -> b.bucket(bucketName).key(key));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            if (e.statusCode() == 403) {
+                throw S3Exception.builder()
+                        .message("S3 HeadObject 가 403 입니다. 버킷 " + bucketName
+                                + " 에 s3:GetObject 와 s3:ListBucket 권한이 필요합니다 (없는 키 확인용).")
+                        .statusCode(403)
+                        .cause(e)
+                        .build();
+            }
+            throw e;
+        }
+        knownKeys.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    // 현재 빌려준 버퍼 수
+    public int buffersInUse() {
+        return bufferCount - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("upload.buffers.in.use", this, S3ObjectStorage::buffersInUse)
+                .description("업로드 중인 파트 버퍼 수")
+                .register(registry);
+        FunctionCounter.builder("upload.buffers.rejected", rejected, LongAdder::sum)
+                .description("버퍼 부족으로 거절된 업로드 수 (503)")
+                .register(registry);
+        FunctionCounter.builder("upload.read.timeouts", timedOut, LongAdder::sum)
+                .description("본문이 느려 중단된 업로드 수 (408)")
+                .register(registry);
+    }
+
+    private StoredObject uploadMultipart(String keyPrefix, String extension, String contentType, InputStream in,
+                                         byte[] buffer, int firstRead, MessageDigest sha256) throws IOException {
+        String stagingKey = STAGING_PREFIX + UUID.randomUUID();
+        String uploadId = s3Client.createMultipartUpload(
+                b -> b.bucket(bucketName).key(stagingKey).contentType(contentType)
+                        .cacheControl(IMMUTABLE_CACHE_CONTROL)).uploadId();
+
+        List<CompletedPart> parts = new ArrayList<>();
+        long total = firstRead;
+        int length = firstRead;
+        String key;
+        try {
+            while (length > 0) {
+                int partNumber = parts.size() + 1;
+                int partLength = length;
+                String eTag = s3Client.uploadPart(
+                        b -> b.bucket(bucketName).key(stagingKey).uploadId(uploadId)
+                                .partNumber(partNumber).contentLength((long) partLength),
+                        body(buffer, partLength)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+
+                // 같은 버퍼에 다음 파트를 덮어 씀
+                length = readPart(in, buffer);
+                total += length;
+                checkSize(total);
+                sha256.update(buffer, 0, length);
+            }
+
+            key = keyPrefix + HexFormat.of().formatHex(sha256.digest()) + extension;
+            if (exists(key)) {
+                s3Client.abortMultipartUpload(b -> b.bucket(bucketName).key(stagingKey).uploadId(uploadId));
+                return new StoredObject(key, total, true);
+            }
+
+            s3Client.completeMultipartUpload(b -> b.bucket(bucketName).key(stagingKey).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(b -> b.bucket(bucketName).key(stagingKey).uploadId(uploadId));
+            throw e;
+        }
+
+        // 최종 키로 서버 측 복사 (Content-Type, Cache-Control 도 그대로 복사됨) 후 staging 삭제
+        s3Client.copyObject(b -> b.sourceBucket(bucketName).sourceKey(stagingKey)
+                .destinationBucket(bucketName).destinationKey(key));
+        s3Client.deleteObject(b -> b.bucket(bucketName).key(stagingKey));
+        knownKeys.put(key, Boolean.TRUE);
+        return new StoredObject(key, total, false);
+    }
+
+    // 파트 하나(partSize)를 채우거나 본문이 끝날 때까지 읽기 (part-read-timeout 넘으면 중단)
+    private int readPart(InputStream in, byte[] buffer) throws IOException {
+        long deadline = System.nanoTime() + partReadTimeoutNanos;
+        int total = 0;
+        while (total < partSize) {
+            int read = in.read(buffer, total, partSize - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+            if (total < partSize && System.nanoTime() - deadline > 0) {
+                timedOut.increment();
+                throw new UploadTimeoutException();
+            }
+        }
+        return total;
+    }
+
+    // 버퍼 배열을 복사하지 않고 그대로 요청 본문으로 사용
+    private static RequestBody body(byte[] buffer, int length) {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length);
+    }
+
+    private void checkSize(long size) {
+        if (size > maxSize) {
+            throw new IllegalArgumentException("파일 크기는 " + (maxSize / (1024 * 1024)) + "MB 를 넘을 수 없습니다.");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] acquireBuffer() {
+        try {
+            if (!permits.tryAcquire(bufferWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new UploadBufferBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadBufferBusyException();
+        }
+
+        // 처음 필요할 때 만들고 이후엔 재사용
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        permits.release();
+    }
+}
@@ -0,0 +1,8 @@
+package com.jyo.techblog.file;
+
+/**
+ * 스트리밍 업로드 결과
+ * - deduplicated: 같은 내용이 이미 있어서 새로 저장하지 않음
+ */
+public record StoredObject(String key, long size, boolean deduplicated) {
+}
@@ -0,0 +1,11 @@
+package com.jyo.techblog.file;
+
+/**
+ * 업로드 버퍼 풀이 모두 사용 중이라 업로드를 받지 못할 때 (-> 503)
+ */
+public class UploadBufferBusyException extends RuntimeException {
+
+    public UploadBufferBusyException() {
+        super("업로드 요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
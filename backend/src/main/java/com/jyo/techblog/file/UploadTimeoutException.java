@@ -0,0 +1,12 @@
+package com.jyo.techblog.file;
+
+/**
+ * 업로드 본문이 너무 느리게 들어와서 파트 하나를 제한 시간 안에 못 채웠을 때 (-> 408)
+ * - 느린 클라이언트가 업로드 버퍼를 오래 잡고 있지 못하게 중단
+ */
+public class UploadTimeoutException extends RuntimeException {
+
+    public UploadTimeoutException() {
+        super("업로드가 너무 느려 중단되었습니다. 네트워크 상태를 확인 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,82 @@
+-- 초기 스키마 (ddl-auto: update 로 운영하던 마지막 배포 시점의 구조, MySQL 8)
+-- - ddl-auto 로 이미 만들어진 운영 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+--   -> 이후 바뀐 스키마(시퀀스, 요약/카운터 컬럼, 유니크 제약, 인덱스)는 전부 V2 부터의 마이그레이션으로만 추가
+-- - id 는 전부 AUTO_INCREMENT (pooled 시퀀스 전환은 V2)
+
+CREATE TABLE users (
+    id         BIGINT                 NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    email      VARCHAR(100)           NOT NULL,
+    password   VARCHAR(255)           NOT NULL,
+    nickname   VARCHAR(50)            NOT NULL,
+    role       ENUM ('USER', 'ADMIN') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    name        VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    deleted     BIT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE posts (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    title       VARCHAR(200) NOT NULL,
+    content     LONGTEXT     NOT NULL,
+    author_id   BIGINT       NOT NULL,
+    category_id BIGINT,
+    view_count  BIGINT       NOT NULL,
+    deleted     BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users (id),
+    CONSTRAINT fk_posts_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comment (
+    id          BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    post_id     BIGINT        NOT NULL,
+    user_id     BIGINT,
+    content     VARCHAR(1000) NOT NULL,
+    author_name VARCHAR(255),
+    password    VARCHAR(255),
+    deleted     BIT           NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_like (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    post_id     BIGINT NOT NULL,
+    user_id     BIGINT,
+    ip_address  VARCHAR(45),
+    member_like BIT    NOT NULL,
+    deleted     BIT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_like_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_post_like_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_view (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    post_id        BIGINT      NOT NULL,
+    ip_address     VARCHAR(45) NOT NULL,
+    last_viewed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_view_post FOREIGN KEY (post_id) REFERENCES posts (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,24 @@
+-- IDENTITY(AUTO_INCREMENT) -> pooled 시퀀스 전환 (MySQL)
+-- - MySQL 은 시퀀스가 없어서 Hibernate 가 {엔티티}_seq 테이블의 next_val 한 행을 시퀀스처럼 사용
+-- - 시퀀스 테이블은 새 DB, ddl-auto 시절 DB 모두 여기서 만듦
+-- - ddl-auto 가 next_val = 1 로 먼저 만들어 둔 경우도 아래 UPDATE 로 기존 id 위로 올림
+-- - next_val = 기존 MAX(id) + allocationSize(50) + 1
+--   (pooled 방식은 읽은 값을 블록의 끝으로 보고 next_val - 49 ~ next_val 을 쓰므로 기존 id 위에서 시작)
+-- - 기존 id 컬럼의 AUTO_INCREMENT 는 그대로 둬도 됨 (id 를 직접 넣으면 무시됨)
+-- - post_like 는 네이티브 INSERT ... ON DUPLICATE KEY UPDATE 로만 생성돼서 AUTO_INCREMENT 유지 (대상 아님)
+
+CREATE TABLE IF NOT EXISTS post_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS comment_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS user_seq (next_val BIGINT);
+CREATE TABLE IF NOT EXISTS category_seq (next_val BIGINT);
+
+INSERT INTO post_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM post_seq);
+INSERT INTO comment_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM comment_seq);
+INSERT INTO user_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM user_seq);
+INSERT INTO category_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM category_seq);
+
+-- 이미 더 큰 값이면 그대로 (재실행 / 이미 새 버전이 id 를 할당한 뒤 실행해도 안전)
+UPDATE post_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM posts));
+UPDATE comment_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM comment));
+UPDATE user_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM users));
+UPDATE category_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM categories));
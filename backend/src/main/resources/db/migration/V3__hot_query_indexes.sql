@@ -0,0 +1,14 @@
+-- 자주 실행되는 조회 중 인덱스가 없던 것들 (엔티티 @Index 와 같은 이름/컬럼, QueryPlanTest 로 검증)
+-- - 게시글 목록/커서, 댓글 커서는 V6 의 인덱스, 좋아요 단건 확인은 V4 의 유니크 제약으로 커버
+
+-- 카테고리 목록: WHERE deleted = false ORDER BY name
+CREATE INDEX idx_categories_deleted_name ON categories (deleted, name);
+
+-- 목록 페이지 좋아요 상태: WHERE user_id = ? AND deleted = false AND post_id IN (...)  (post_id 까지 인덱스에서 읽음)
+CREATE INDEX idx_post_like_user_deleted_post ON post_like (user_id, deleted, post_id);
+
+-- 비회원 좋아요 상태: WHERE ip_address = ? AND deleted = false AND post_id IN (...)
+CREATE INDEX idx_post_like_ip_deleted_post ON post_like (ip_address, deleted, post_id);
+
+-- 카운터 보정(PostCounterReconciler): COUNT(*) WHERE post_id = ? AND deleted = false
+CREATE INDEX idx_post_like_post_deleted ON post_like (post_id, deleted);
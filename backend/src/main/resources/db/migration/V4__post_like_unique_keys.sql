@@ -0,0 +1,22 @@
+-- 좋아요 중복 방지 유니크 제약 (회원: 글+회원, 비회원: 글+IP)
+-- - ddl-auto 시절엔 제약 없이 조회 후 저장이라 동시 요청으로 같은 좋아요가 두 행 이상 생겼을 수 있음
+--   -> 제약 추가 전에 중복 정리: 그룹별로 살아있는(deleted = 0) 행 우선, 같으면 id 가 작은 행 하나만 남김
+-- - NULL 은 서로 중복이 아니라서 회원 행(ip_address NULL) / 비회원 행(user_id NULL) 은 각자 제약에만 걸림
+
+DELETE l
+FROM post_like l
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY post_id, user_id ORDER BY deleted, id) AS rn
+      FROM post_like
+      WHERE user_id IS NOT NULL) d ON d.id = l.id
+WHERE d.rn > 1;
+
+DELETE l
+FROM post_like l
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY post_id, ip_address ORDER BY deleted, id) AS rn
+      FROM post_like
+      WHERE ip_address IS NOT NULL) d ON d.id = l.id
+WHERE d.rn > 1;
+
+ALTER TABLE post_like
+    ADD CONSTRAINT uk_post_like_post_user UNIQUE (post_id, user_id),
+    ADD CONSTRAINT uk_post_like_post_ip UNIQUE (post_id, ip_address);
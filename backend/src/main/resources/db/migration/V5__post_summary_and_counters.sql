@@ -0,0 +1,15 @@
+-- 게시글 목록용 요약 컬럼 + 비정규화 카운터
+-- - excerpt / thumbnail_url 은 HTML 본문을 파싱해야 해서 SQL 로 채우지 않음
+--   -> NULL 로 추가하고 기동 시 PostSummaryBackfill 이 엔티티 로직(Post.refreshSummary)으로 채움
+-- - like_count / comment_count 는 여기서 원본 테이블 기준으로 바로 채움 (V4 에서 중복 좋아요 정리 후)
+--   (이후 어긋나는 값은 PostCounterReconciler 가 보정)
+
+ALTER TABLE posts
+    ADD COLUMN excerpt       VARCHAR(300),
+    ADD COLUMN thumbnail_url VARCHAR(500),
+    ADD COLUMN like_count    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE posts p
+SET like_count    = (SELECT COUNT(*) FROM post_like l WHERE l.post_id = p.id AND l.deleted = false),
+    comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted = false);
@@ -0,0 +1,10 @@
+-- 게시글 목록/커서, 댓글 커서 조회용 인덱스 (엔티티 @Index 와 같은 이름/컬럼, QueryPlanTest 로 검증)
+
+-- 게시글 목록/커서: WHERE deleted = false ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_posts_deleted_created_at ON posts (deleted, created_at, id);
+
+-- 카테고리별 목록/커서: WHERE category_id = ? AND deleted = false ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_posts_category_deleted_created_at ON posts (category_id, deleted, created_at, id);
+
+-- 댓글 커서: WHERE post_id = ? AND deleted = false ORDER BY created_at, id
+CREATE INDEX idx_comment_post_deleted_created_at ON comment (post_id, deleted, created_at, id);
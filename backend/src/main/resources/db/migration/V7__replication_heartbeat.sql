@@ -0,0 +1,9 @@
+-- replica 복제 지연 측정용 heartbeat 테이블 (ReplicatedDataSources)
+-- - primary 에 id = 1 한 행만 두고 현재 시각(epoch ms)을 계속 덮어씀 -> replica 에서 같은 행을 읽어 지연 계산
+-- - 복제로 replica 에도 같이 생김 (replica 를 쓰지 않는 환경에서도 만들어 두기만 함)
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id      INT    NOT NULL,
+    beat_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
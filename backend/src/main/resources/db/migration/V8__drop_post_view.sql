@@ -0,0 +1,5 @@
+-- 조회수 중복 방지(IP별 쿨타임) 테이블 삭제
+-- - 쿨타임은 메모리 윈도우(ViewDedupWindow)로 옮겨서 더 이상 읽거나 쓰는 코드가 없음 (엔티티도 삭제됨)
+-- - 행이 조회마다 쌓이기만 하던 테이블이라 보존할 데이터 없음
+
+DROP TABLE IF EXISTS post_view;
@@ -0,0 +1,110 @@
+package com.jyo.techblog.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("해시/비교는 전용 풀에서 BCrypt 에 위임 + 소요 시간 기록")
+    void encodeAndMatches_Delegates() {
+        // given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        // when
+        String hash = encoder.encode("password");
+
+        // then
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("password", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(registry.get("password.hash").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(registry.get("password.hash").tag("op", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드 + 대기열이 가득 차면 기다리지 않고 바로 거절")
+    void encode_RejectsWhenSaturated() throws Exception {
+        // given: 스레드 1개, 대기열 1개를 막아둔 해시로 채움
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        waitUntil(() -> registry.get("password.hash.active").gauge().value() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntil(() -> registry.get("password.hash.queue").gauge().value() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(registry.get("password.hash.rejected").functionCounter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 끝나지 않으면 거절")
+    void encode_RejectsAfterMaxWait() {
+        // given
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofMillis(50));
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("a"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+    }
+
+    // release 전까지 끝나지 않는 가짜 해시 (원문 그대로 반환)
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,60 @@
+package com.jyo.techblog.auth;
+
+import com.jyo.techblog.domain.user.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationCacheTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000);
+    private final JwtAuthenticationCache cache = new JwtAuthenticationCache(provider, 100);
+
+    @Test
+    @DisplayName("유효한 토큰 - 한 번 검증 후 같은 토큰은 캐시에서 바로 반환")
+    void resolve_CachesValidToken() {
+        // given
+        String token = provider.generateAccessToken(7L, Role.ADMIN);
+
+        // when
+        Optional<JwtPrincipal> first = cache.resolve(token);
+        Optional<JwtPrincipal> second = cache.resolve(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().userId()).isEqualTo(7L);
+        assertThat(first.get().role()).isEqualTo(Role.ADMIN);
+        assertThat(second).containsSame(first.get());
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변조된 토큰 - 인증 정보 없음, 캐시에도 저장 X")
+    void resolve_RejectsTamperedToken() {
+        // given
+        String token = provider.generateAccessToken(7L, Role.USER);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(cache.resolve(tampered)).isEmpty();
+        assertThat(cache.resolve(tampered)).isEmpty();
+        assertThat(cache.stats().hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 인증 정보 없음")
+    void resolve_RejectsExpiredToken() {
+        // given
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1_000);
+        String token = expiredProvider.generateAccessToken(7L, Role.USER);
+
+        // when & then
+        assertThat(cache.resolve(token)).isEmpty();
+    }
+}
@@ -0,0 +1,158 @@
+package com.jyo.techblog.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 DB 두 개를 primary / replica 로 두고 라우팅 확인 (복제는 heartbeat 행을 직접 써서 흉내)
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final AtomicReference<String> client = new AtomicReference<>("u:1");
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicatedDataSources sources;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate supportsTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing_primary");
+        replica = database("routing_replica");
+        // 운영에선 V7 마이그레이션이 primary 에 만들고 복제로 replica 에도 생김
+        for (DataSource dataSource : new DataSource[]{primary, replica}) {
+            new JdbcTemplate(dataSource).execute(
+                    "CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+            new JdbcTemplate(dataSource).update("DELETE FROM replication_heartbeat");
+        }
+
+        sources = new ReplicatedDataSources(primary, Map.of("replica-0", replica), Duration.ofSeconds(2), true, clock::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(sources, Duration.ofSeconds(5), client::get));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        // PostService.getPost 와 같은 조건: readOnly 플래그만 있고 실제 트랜잭션은 없음
+        supportsTemplate = new TransactionTemplate(transactionManager);
+        supportsTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        supportsTemplate.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary")
+    void routesByReadOnly() {
+        // given
+        replicate(clock.get());
+        sources.check();
+
+        // when & then
+        assertThat(readTemplate.execute(status -> whoAmI())).isEqualTo("routing_replica");
+        assertThat(writeTemplate.execute(status -> whoAmI())).isEqualTo("routing_primary");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 읽기도 primary")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        // given: replica 의 heartbeat 가 3초 전 값
+        replicate(clock.get() - 3_000);
+        sources.check();
+
+        // when & then
+        assertThat(sources.healthyReplicas()).isEmpty();
+        assertThat(readTemplate.execute(status -> whoAmI())).isEqualTo("routing_primary");
+    }
+
+    @Test
+    @DisplayName("직접 쓴 클라이언트는 window 동안 읽기도 primary, 다른 클라이언트는 replica")
+    void readYourWrites() {
+        // given
+        replicate(clock.get());
+        sources.check();
+
+        // when: u:1 이 쓰기 트랜잭션 실행
+        writeTemplate.executeWithoutResult(status -> whoAmI());
+
+        // then
+        assertThat(readTemplate.execute(status -> whoAmI())).isEqualTo("routing_primary");
+
+        client.set("u:2");
+        assertThat(readTemplate.execute(status -> whoAmI())).isEqualTo("routing_replica");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 없는 읽기(SUPPORTS)도 직접 쓴 클라이언트는 primary")
+    void readYourWritesWithoutTransaction() {
+        // given
+        replicate(clock.get());
+        sources.check();
+        assertThat(supportsTemplate.execute(status -> whoAmI())).isEqualTo("routing_replica");
+
+        // when: u:1 이 쓰기 트랜잭션 실행
+        writeTemplate.executeWithoutResult(status -> whoAmI());
+
+        // then
+        assertThat(supportsTemplate.execute(status -> whoAmI())).isEqualTo("routing_primary");
+
+        client.set("u:2");
+        assertThat(supportsTemplate.execute(status -> whoAmI())).isEqualTo("routing_replica");
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 읽기는 replica 가 정상이어도 primary")
+    void onPrimaryForcesPrimary() {
+        // given
+        replicate(clock.get());
+        sources.check();
+
+        // when & then
+        assertThat(supportsTemplate.execute(status -> ReadWriteRoutingDataSource.onPrimary(this::whoAmI)))
+                .isEqualTo("routing_primary");
+        assertThat(readTemplate.execute(status -> ReadWriteRoutingDataSource.onPrimary(this::whoAmI)))
+                .isEqualTo("routing_primary");
+
+        // 범위를 벗어나면 다시 replica
+        assertThat(supportsTemplate.execute(status -> whoAmI())).isEqualTo("routing_replica");
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class);
+    }
+
+    // 복제 흉내: primary 의 heartbeat 를 replica 에 그대로 반영 (beatAt 이 과거면 지연 상태)
+    private void replicate(long beatAt) {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.update("DELETE FROM replication_heartbeat");
+        replicaJdbc.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM db_marker");
+        jdbcTemplate.update("INSERT INTO db_marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
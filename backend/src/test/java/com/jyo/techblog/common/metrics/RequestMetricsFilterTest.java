@@ -0,0 +1,84 @@
+package com.jyo.techblog.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestMetricsFilter filter = new RequestMetricsFilter(registry, Duration.ofSeconds(10), 50);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ProfilingDataSource dataSource = new ProfilingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:request-metrics;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counter (id BIGINT PRIMARY KEY, hits BIGINT)");
+        jdbcTemplate.update("MERGE INTO counter KEY (id) VALUES (1, 0)");
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 수, 트랜잭션 시간이 URI 패턴별로 기록")
+    void recordsSqlPerEndpoint() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+
+        // when: 트랜잭션 안에서 SQL 2번 + 밖에서 1번
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts/{id}");
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE counter SET hits = hits + 1 WHERE id = ?", 1L);
+                jdbcTemplate.queryForObject("SELECT hits FROM counter WHERE id = ?", Long.class, 1L);
+            });
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counter", Long.class);
+        });
+
+        // then
+        DistributionSummary sql = registry.get("http.server.requests.sql")
+                .tags("method", "GET", "uri", "/api/posts/{id}").summary();
+        Timer transaction = registry.get("http.server.requests.tx.time")
+                .tags("method", "GET", "uri", "/api/posts/{id}").timer();
+
+        assertThat(sql.count()).isEqualTo(1);
+        assertThat(sql.totalAmount()).isEqualTo(3);
+        assertThat(transaction.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("요청 밖(스케줄러 등)에서 실행된 SQL 은 집계 X")
+    void ignoresSqlOutsideRequest() throws Exception {
+        // given
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counter", Long.class);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        DistributionSummary sql = registry.get("http.server.requests.sql").tags("uri", "UNKNOWN").summary();
+        assertThat(sql.count()).isEqualTo(1);
+        assertThat(sql.totalAmount()).isZero();
+        assertThat(RequestProfile.current()).isNull();
+    }
+}
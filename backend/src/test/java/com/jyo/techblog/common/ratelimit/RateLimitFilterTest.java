@@ -0,0 +1,132 @@
+package com.jyo.techblog.common.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    // 1분에 3번
+    private final RateLimiter rateLimiter = new RateLimiter(
+            List.of(RateLimitRule.of("like", "POST", "/api/posts/*/likes", 3, Duration.ofMinutes(1))),
+            1000,
+            now::get
+    );
+    private final RateLimitFilter filter = new RateLimitFilter(rateLimiter);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 IP - capacity 까지 통과, 넘으면 429 + Retry-After")
+    void rejectsOverCapacity() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(call(like("1.1.1.1")).getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse rejected = call(like("1.1.1.1"));
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+    }
+
+    @Test
+    @DisplayName("period / capacity 가 지나면 토큰 하나 다시 사용 가능")
+    void refillsOverTime() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            call(like("1.1.1.1"));
+        }
+        assertThat(call(like("1.1.1.1")).getStatus()).isEqualTo(429);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(20));
+
+        assertThat(call(like("1.1.1.1")).getStatus()).isEqualTo(200);
+        assertThat(call(like("1.1.1.1")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("IP 별, 회원 별로 버킷이 따로")
+    void separatesClients() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            call(like("1.1.1.1"));
+        }
+
+        assertThat(call(like("2.2.2.2")).getStatus()).isEqualTo(200);
+
+        // 같은 IP 라도 로그인한 회원은 userId 기준
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(7L, null, List.of()));
+        assertThat(call(like("1.1.1.1")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 를 바꿔 보내도 새 버킷이 생기지 않음 (remoteAddr 기준)")
+    void ignoresSpoofedForwardedFor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = like("1.1.1.1");
+            request.addHeader("X-Forwarded-For", "203.0.113." + i);
+            assertThat(call(request).getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletRequest spoofed = like("1.1.1.1");
+        spoofed.addHeader("X-Forwarded-For", "203.0.113.99");
+
+        assertThat(call(spoofed).getStatus()).isEqualTo(429);
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 요청은 제한 X, 버킷도 안 만듦")
+    void ignoresUnmatchedRequests() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/likes");
+            request.setServletPath("/api/posts/1/likes");
+            assertThat(call(request).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(rateLimiter.bucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("period 동안 요청 없는 버킷은 제거 (가득 찬 상태와 같음)")
+    void evictsIdleBuckets() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            call(like("10.0.0." + i));
+        }
+        assertThat(rateLimiter.bucketCount()).isEqualTo(100);
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1) + 1);
+
+        assertThat(rateLimiter.bucketCount()).isZero();
+    }
+
+    private MockHttpServletRequest like(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/posts/1/likes");
+        request.setServletPath("/api/posts/1/likes");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private MockHttpServletResponse call(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jyo.techblog.domain;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 같은 MySQL 에서 마이그레이션(V1~) 실행 후 엔티티 검증(ddl-auto=validate) + 핫 쿼리 실행 계획 확인
+ * - 나머지 테스트는 H2 + 엔티티 기준 스키마라서 마이그레이션과 엔티티가 어긋나도 모름 -> 여기서 잡음
+ * - 실행 계획 검증은 QueryPlanTest 를 그대로 상속 (마이그레이션이 만든 인덱스 기준)
+ * - Docker 가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanTest.RecorderConfig.class)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class MySqlMigrationTest extends QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("마이그레이션 전부 성공 + 엔티티 검증 통과 (컨텍스트가 떴으면 validate 통과)")
+    void migrations_AppliedAndMatchEntities() {
+        Number failed = (Number) em.createNativeQuery(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = 0").getSingleResult();
+        Number applied = (Number) em.createNativeQuery(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE version IS NOT NULL").getSingleResult();
+        Number postView = (Number) em.createNativeQuery("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = 'post_view'
+                """).getSingleResult();
+
+        assertThat(failed.longValue()).isZero();
+        assertThat(applied.longValue()).isEqualTo(8);
+        assertThat(postView.longValue()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package com.jyo.techblog.domain;
+
+import com.jyo.techblog.domain.category.Category;
+import com.jyo.techblog.domain.category.CategoryRepository;
+import com.jyo.techblog.domain.comment.Comment;
+import com.jyo.techblog.domain.comment.CommentRepository;
+import com.jyo.techblog.domain.post.Post;
+import com.jyo.techblog.domain.post.PostRepository;
+import com.jyo.techblog.domain.postlike.PostLikeRepository;
+import com.jyo.techblog.domain.user.Role;
+import com.jyo.techblog.domain.user.User;
+import com.jyo.techblog.domain.user.UserRepository;
+import com.jyo.techblog.support.QueryPlanRecorder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 실행되는 리포지토리 쿼리가 모두 인덱스를 타는지 EXPLAIN 으로 검증 (H2, 엔티티 @Index 기준 스키마)
+ * - 새 조회 쿼리를 추가하면 여기에도 호출을 추가 -> 인덱스 없이 풀 스캔이면 실패
+ * - 같은 검증을 마이그레이션으로 만든 MySQL 스키마에도 실행 (MySqlMigrationTest 가 상속)
+ */
+@DataJpaTest
+@Import(QueryPlanTest.RecorderConfig.class)
+class QueryPlanTest {
+
+    private static final QueryPlanRecorder recorder = new QueryPlanRecorder();
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static BeanPostProcessor queryPlanRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? recorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+    private Category category;
+    private Post post;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            User author = User.createUser("plan" + i + "@jyo.dev", "pw", "작성자" + i, Role.USER);
+            Category c = Category.create("분류" + i, null);
+            em.persist(author);
+            em.persist(c);
+            for (int j = 0; j < 10; j++) {
+                Post p = Post.createPost("제목" + i + j, "<p>본문</p>", author, c);
+                em.persist(p);
+                em.persist(Comment.of(p, author, "댓글" + j));
+                postIds.add(p.getId());
+                post = p;
+            }
+            user = author;
+            category = c;
+        }
+        em.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : postIds.subList(0, 10)) {
+            postLikeRepository.insertMemberLikeIfAbsent(id, user.getId(), now);
+            postLikeRepository.insertGuestLikeIfAbsent(id, "10.0.0.1", now);
+        }
+        em.clear();
+        recorder.reset();
+    }
+
+    @Test
+    @DisplayName("게시글/댓글/좋아요/카테고리/회원 핫 쿼리 - 풀 스캔 없음")
+    void hotQueries_UseIndexes() {
+        // 게시글
+        postRepository.findByIdAndDeletedFalse(post.getId());
+        postRepository.findPostList(null, PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createdAt")));
+        postRepository.findPostList(category.getId(), PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createdAt")));
+        postRepository.findFirstSlice(null, PageRequest.of(0, 6));
+        postRepository.findFirstSlice(category.getId(), PageRequest.of(0, 6));
+        postRepository.findSliceAfter(null, LocalDateTime.now(), post.getId(), PageRequest.of(0, 6));
+        postRepository.findSummariesByIdIn(postIds.subList(0, 6));
+        postRepository.findLikeCountsByIdIn(postIds.subList(0, 6));
+        postRepository.increaseLikeCount(post.getId());
+        postRepository.findLikeCountById(post.getId());
+
+        // 댓글
+        commentRepository.findFirstSlice(post.getId(), PageRequest.of(0, 10));
+        commentRepository.findSliceAfter(post.getId(), LocalDateTime.now().minusDays(1), 0L, PageRequest.of(0, 10));
+
+        // 좋아요
+        Post postRef = em.getReference(Post.class, postIds.get(0));
+        User userRef = em.getReference(User.class, user.getId());
+        postLikeRepository.existsByPostAndUserAndDeletedFalse(postRef, userRef);
+        postLikeRepository.existsByPostAndIpAddressAndDeletedFalse(postRef, "10.0.0.1");
+        postLikeRepository.findLikedPostIdsByUser(postIds.subList(0, 6), user.getId());
+        postLikeRepository.findLikedPostIdsByIp(postIds.subList(0, 6), "10.0.0.1");
+        postLikeRepository.cancelMemberLike(postIds.get(0), user.getId(), LocalDateTime.now());
+
+        // 카테고리, 회원
+        categoryRepository.findAllByDeletedFalseOrderByNameAsc();
+        categoryRepository.existsByNameAndDeletedFalse("분류0");
+        userRepository.findByEmail("plan0@jyo.dev");
+        userRepository.existsByEmail("plan0@jyo.dev");
+
+        // then
+        assertThat(recorder.plans()).isNotEmpty().allSatisfy(plan ->
+                assertThat(plan.fullScan())
+                        .as("풀 스캔 쿼리:\n%s\n계획:\n%s", plan.sql(), plan.plan())
+                        .isFalse());
+    }
+}
@@ -0,0 +1,205 @@
+package com.jyo.techblog.domain.category;
+
+import com.jyo.techblog.common.datasource.ReadWriteRoutingDataSource;
+import com.jyo.techblog.common.datasource.ReplicatedDataSources;
+import com.jyo.techblog.domain.category.dto.CategoryRequest;
+import com.jyo.techblog.domain.category.dto.CategoryResponse;
+import com.jyo.techblog.domain.post.PostCache;
+import com.jyo.techblog.domain.user.Role;
+import com.jyo.techblog.domain.user.User;
+import com.jyo.techblog.domain.user.UserRepository;
+import com.jyo.techblog.support.SqlCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Category / User 2차 캐시 + 카테고리 쿼리 캐시
+ * - 캐시는 커밋된 뒤에만 채워져서 테스트 트랜잭션 없이 실행 (만든 데이터는 직접 정리)
+ * - DataSource 는 운영처럼 primary/replica 라우팅으로 감쌈
+ *   replica 는 빈 categories 테이블만 있는 별도 DB (= 복제가 밀린 상태), 평소엔 꺼져 있어서 전부 primary
+ */
+@DataJpaTest
+@Import({CategoryService.class, PostCache.class, CategoryCacheTest.ReplicaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryCacheTest {
+
+    private static volatile boolean replicaUp = false;
+    private static ReplicatedDataSources sources;
+
+    @TestConfiguration
+    static class ReplicaConfig {
+
+        @Bean
+        static BeanPostProcessor replicaRoutingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource primary)) {
+                        return bean;
+                    }
+                    sources = new ReplicatedDataSources(
+                            primary, Map.of("replica-0", laggingReplica()), Duration.ofSeconds(2), false);
+                    return new LazyConnectionDataSourceProxy(
+                            new ReadWriteRoutingDataSource(sources, Duration.ofSeconds(5)));
+                }
+            };
+        }
+
+        // 변경이 아직 복제되지 않은 replica (replicaUp 일 때만 연결 가능)
+        private static DataSource laggingReplica() {
+            DataSource replica = new DriverManagerDataSource(
+                    "jdbc:h2:mem:category_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+            new JdbcTemplate(replica).execute("""
+                    CREATE TABLE IF NOT EXISTS categories (
+                        id BIGINT PRIMARY KEY,
+                        created_at TIMESTAMP(6),
+                        updated_at TIMESTAMP(6),
+                        name VARCHAR(50) NOT NULL,
+                        description VARCHAR(255),
+                        deleted BOOLEAN NOT NULL
+                    )
+                    """);
+            return new DelegatingDataSource(replica) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    if (!replicaUp) {
+                        throw new SQLException("replica 꺼짐");
+                    }
+                    return obtainTargetDataSource().getConnection();
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private SqlCounter sqlCounter;
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sqlCounter = new SqlCounter(em);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaUp = false;
+        sources.check();
+        categoryRepository.deleteAllById(categoryIds);
+        userRepository.deleteAllById(userIds);
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 - 두 번째 조회부터 SQL 0번")
+    void getCategories_CachedAfterFirstRead() {
+        // given
+        categoryIds.add(categoryRepository.save(Category.create("캐시분류", null)).getId());
+        categoryService.getCategories();
+        sqlCounter.reset();
+
+        // when
+        List<CategoryResponse> categories = categoryService.getCategories();
+
+        // then
+        assertThat(categories).extracting(CategoryResponse::getName).contains("캐시분류");
+        assertThat(sqlCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 - replica 가 밀려 있어도 캐시에는 primary 의 최신 목록이 들어감")
+    void getCategories_LoadsFromPrimaryWhileReplicaLags() {
+        // given: 추가는 primary 에만 반영, replica 는 아직 비어 있는 채로 읽기 대상이 됨
+        categoryIds.add(categoryRepository.save(Category.create("지연분류", null)).getId());
+        replicaUp = true;
+        sources.check();
+        assertThat(sources.healthyReplicas()).containsExactly("replica-0");
+
+        // when
+        List<CategoryResponse> first = categoryService.getCategories();
+        sqlCounter.reset();
+        List<CategoryResponse> cached = categoryService.getCategories();
+
+        // then: 처음부터 최신 목록, 이후엔 그 목록이 캐시에서 나감
+        assertThat(first).extracting(CategoryResponse::getName).contains("지연분류");
+        assertThat(cached).extracting(CategoryResponse::getName).contains("지연분류");
+        assertThat(sqlCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 수정/삭제 - 커밋 후 캐시된 목록에 바로 반영")
+    void updateAndDelete_InvalidateCachedList() {
+        // given
+        Long id = categoryRepository.save(Category.create("수정전", null)).getId();
+        categoryIds.add(id);
+        categoryService.getCategories();
+
+        // when: 이름 변경
+        CategoryRequest request = new CategoryRequest();
+        request.setName("수정후");
+        categoryService.updateCategory(id, request);
+
+        // then
+        assertThat(categoryService.getCategories()).extracting(CategoryResponse::getName)
+                .contains("수정후")
+                .doesNotContain("수정전");
+
+        // when: 삭제
+        categoryService.deleteCategory(id);
+
+        // then
+        assertThat(categoryService.getCategories()).extracting(CategoryResponse::getId).doesNotContain(id);
+    }
+
+    @Test
+    @DisplayName("회원 findById - 캐시 히트면 SQL 0번")
+    void findUserById_Cached() {
+        // given
+        Long id = userRepository.save(User.createUser("cache@jyo.dev", "pw", "캐시회원", Role.USER)).getId();
+        userIds.add(id);
+        userRepository.findById(id);
+        sqlCounter.reset();
+
+        // when
+        User user = userRepository.findById(id).orElseThrow();
+
+        // then
+        assertThat(user.getNickname()).isEqualTo("캐시회원");
+        assertThat(sqlCounter.count()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package com.jyo.techblog.domain.comment;
+
+import com.jyo.techblog.domain.comment.dto.CommentSliceResponse;
+import com.jyo.techblog.domain.post.Post;
+import com.jyo.techblog.domain.post.PostCache;
+import com.jyo.techblog.domain.post.PostRepository;
+import com.jyo.techblog.domain.user.Role;
+import com.jyo.techblog.domain.user.User;
+import com.jyo.techblog.support.JdbcBatchCounter;
+import com.jyo.techblog.support.SqlCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 커서 목록 - 게시글 확인 + 댓글 수 + 댓글 목록이 쿼리 한 번인지, 커서로 끝까지 이어지는지
+ */
+@DataJpaTest
+@Import({CommentService.class, PostCache.class, BCryptPasswordEncoder.class, CommentQueryCountTest.BatchCounterConfig.class})
+class CommentQueryCountTest {
+
+    private static final JdbcBatchCounter batchCounter = new JdbcBatchCounter();
+
+    @TestConfiguration
+    static class BatchCounterConfig {
+
+        @Bean
+        static BeanPostProcessor batchCounterPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? batchCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private SqlCounter sqlCounter;
+    private Long postId;
+    private Long emptyPostId;
+
+    @BeforeEach
+    void setUp() {
+        User author = User.createUser("comment@jyo.dev", "pw", "작성자", Role.USER);
+        em.persist(author);
+
+        Post post = Post.createPost("제목", "<p>본문</p>", author, null);
+        Post emptyPost = Post.createPost("댓글 없는 글", "<p>본문</p>", author, null);
+        em.persist(post);
+        em.persist(emptyPost);
+
+        for (int i = 0; i < 5; i++) {
+            em.persist(Comment.of(post, author, "댓글" + i));
+        }
+        em.flush();
+
+        postId = post.getId();
+        emptyPostId = emptyPost.getId();
+        for (int i = 0; i < 5; i++) {
+            postRepository.increaseCommentCount(postId);
+        }
+        em.clear();
+
+        sqlCounter = new SqlCounter(em);
+        sqlCounter.reset();
+    }
+
+    @Test
+    @DisplayName("댓글 목록 - 쿼리 1번, 커서로 다음 페이지 이어서 조회")
+    void getCommentByPost_SingleQueryPerPage() {
+        // when
+        CommentSliceResponse first = commentService.getCommentByPost(postId, null, 3);
+
+        // then
+        assertThat(sqlCounter.count()).isEqualTo(1);
+        assertThat(first.getContent()).extracting("content").containsExactly("댓글0", "댓글1", "댓글2");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalCount()).isEqualTo(5);
+
+        CommentSliceResponse second = commentService.getCommentByPost(postId, first.getNextCursor(), 3);
+        assertThat(second.getContent()).extracting("content").containsExactly("댓글3", "댓글4");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("댓글 없는 글 - 예외 없이 빈 목록")
+    void getCommentByPost_EmptyPost() {
+        CommentSliceResponse response = commentService.getCommentByPost(emptyPostId, null, 3);
+
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getTotalCount()).isZero();
+        assertThat(sqlCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 여러 개 저장 - id 는 미리 할당된 블록에서, INSERT 는 배치 한 번으로")
+    void persistComments_BatchedInsert() {
+        // given
+        Post post = em.getReference(Post.class, postId);
+        User author = em.getReference(User.class, post.getAuthor().getId());
+        batchCounter.reset();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            em.persist(Comment.of(post, author, "배치 댓글" + i));
+        }
+        em.flush();
+
+        // then: INSERT 20건이 쪼개지지 않고 executeBatch 한 번, 단건 INSERT 없음
+        assertThat(batchCounter.batches("insert into comment")).isEqualTo(1);
+        assertThat(batchCounter.batchedRows("insert into comment")).isEqualTo(20);
+        assertThat(batchCounter.singleExecutions("insert into comment")).isZero();
+
+        // id 는 미리 받은 블록(50개)에서 -> 시퀀스 조회는 블록 경계를 넘을 때만 (행마다 X)
+        assertThat(batchCounter.singleExecutions("comment_seq")).isLessThanOrEqualTo(1);
+    }
+}
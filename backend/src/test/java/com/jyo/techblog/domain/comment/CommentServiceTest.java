@@ -2,6 +2,7 @@ package com.jyo.techblog.domain.comment;
 
 import com.jyo.techblog.domain.comment.dto.CommentResponse;
 import com.jyo.techblog.domain.post.Post;
+import com.jyo.techblog.domain.post.PostCache;
 import com.jyo.techblog.domain.post.PostRepository;
 import com.jyo.techblog.domain.user.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +13,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -36,6 +42,9 @@ class CommentServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PostCache postCache;
+
     @Test
     @DisplayName("비회원 댓글 삭제 성공 - 비밀번호 일치")
     void deleteAnonymousComment_Success() {
@@ -46,6 +55,7 @@ class CommentServiceTest {
 
         // 비회원 댓글 생성 (User = null)
         Comment comment = Comment.builder()
+                .post(Post.builder().id(10L).build())
                 .content("테스트 댓글")
                 .authorName("익명")
                 .password(encodedPassword)
@@ -64,6 +74,8 @@ class CommentServiceTest {
         // then
         // deleted 상태가 true로 변경되었는지 검증
         assertThat(comment.isDeleted()).isTrue();
+        // 게시글 댓글 수도 같이 감소
+        verify(postRepository).decreaseCommentCount(10L);
     }
 
     @Test
@@ -89,4 +101,35 @@ class CommentServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("비밀번호가 일치하지 않습니다."); // Service의 메시지와 일치해야 함
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("비회원 댓글 삭제 실패 시 게시글 댓글 수 변경 X")
+    void deleteAnonymousComment_Fail_KeepsCount() {
+        // given
+        Comment comment = Comment.builder()
+                .post(Post.builder().id(10L).build())
+                .content("테스트 댓글")
+                .password("encoded")
+                .build();
+
+        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+        given(passwordEncoder.matches("wrong", "encoded")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> commentService.deleteComment(1L, null, "wrong"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(postRepository, never()).decreaseCommentCount(any());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 실패 - 조회 결과 행이 없으면 게시글 없음")
+    void getCommentByPost_Fail_PostNotFound() {
+        // given
+        given(commentRepository.findFirstSlice(eq(99L), any())).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> commentService.getCommentByPost(99L, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다.");
+    }
+}
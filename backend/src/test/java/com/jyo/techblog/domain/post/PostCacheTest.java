@@ -0,0 +1,109 @@
+package com.jyo.techblog.domain.post;
+
+import com.jyo.techblog.domain.post.dto.PostResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCacheTest {
+
+    private final PostCache postCache = new PostCache(1_000_000, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("같은 글 동시 miss - 로딩은 한 번, 나머지는 그 결과를 기다림")
+    void get_LoadsOnceForConcurrentMisses() throws Exception {
+        // given: 첫 로딩이 끝나지 않은 채로 다른 요청들이 들어옴
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<PostResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> postCache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    await(release);
+                    return post(id, 10);
+                })));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            release.countDown();
+
+            // then
+            for (Future<PostResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getViewCount()).isEqualTo(10);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩 실패 - 예외는 그대로 전달, 캐시에 남지 않아서 다음 요청이 다시 로딩")
+    void get_FailedLoadIsNotCached() {
+        // when & then
+        assertThatThrownBy(() -> postCache.get(1L, id -> {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(postCache.get(1L, id -> post(id, 3)).getViewCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화 - 로딩 결과는 응답만 하고 캐시에는 저장 안 함")
+    void get_EvictDuringLoadDropsResult() {
+        // when: 로딩 도중 글이 수정돼서 무효화됨
+        PostResponse loaded = postCache.get(1L, id -> {
+            postCache.evict(id);
+            return post(id, 1);
+        });
+
+        // then
+        assertThat(loaded.getViewCount()).isEqualTo(1);
+        assertThat(postCache.get(1L, id -> post(id, 2)).getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 캐시된 응답의 조회수만 올리고 다시 로딩하지 않음")
+    void addViewCount_UpdatesCachedResponse() {
+        // given
+        postCache.get(1L, id -> post(id, 10));
+
+        // when
+        postCache.addViewCount(1L, 5);
+        postCache.addViewCount(2L, 5);  // 캐시에 없는 글은 무시
+
+        // then
+        assertThat(postCache.get(1L, id -> post(id, 0)).getViewCount()).isEqualTo(15);
+        assertThat(postCache.get(2L, id -> post(id, 7)).getViewCount()).isEqualTo(7);
+    }
+
+    private static PostResponse post(Long id, long viewCount) {
+        return PostResponse.of(id, "제목", "본문", 1L, "작성자", null, null, viewCount, 0, 0, null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
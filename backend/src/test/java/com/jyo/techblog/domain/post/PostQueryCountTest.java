@@ -0,0 +1,114 @@
+package com.jyo.techblog.domain.post;
+
+import com.jyo.techblog.domain.category.Category;
+import com.jyo.techblog.domain.post.dto.PostResponse;
+import com.jyo.techblog.domain.post.dto.PostSummaryResponse;
+import com.jyo.techblog.domain.user.Role;
+import com.jyo.techblog.domain.user.User;
+import com.jyo.techblog.support.SqlCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 조회 API 한 번에 실행되는 SQL 개수 검증
+ * - 작성자/카테고리 지연 로딩으로 인한 N+1 이 다시 생기면 실패
+ */
+@DataJpaTest
+@Import({PostService.class, PostSearchIndex.class, PostCache.class})
+class PostQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager em;
+
+    private SqlCounter sqlCounter;
+    private Long firstPostId;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자 3명, 카테고리 3개에 글 6개를 골고루 (지연 로딩이면 프록시가 여러 개 생기도록)
+        for (int i = 0; i < 6; i++) {
+            User author = User.createUser("user" + i + "@jyo.dev", "pw", "작성자" + i, Role.USER);
+            Category category = Category.create("카테고리" + i, null);
+            em.persist(author);
+            em.persist(category);
+
+            Post post = Post.createPost("제목" + i, "<p>본문" + i + "</p>", author, category);
+            em.persist(post);
+            if (firstPostId == null) {
+                firstPostId = post.getId();
+            }
+        }
+        em.flush();
+        em.clear();
+
+        sqlCounter = new SqlCounter(em);
+        sqlCounter.reset();
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 - 작성자/카테고리 포함 쿼리 1번")
+    void getPost_SingleQuery() {
+        // when
+        PostResponse response = postService.getPost(firstPostId);
+
+        // then
+        assertThat(response.getNickname()).isEqualTo("작성자0");
+        assertThat(response.getCategoryName()).isEqualTo("카테고리0");
+        assertThat(sqlCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 단건 재조회 - 캐시 히트면 쿼리 0번")
+    void getPost_CachedAfterFirstRead() {
+        // given
+        postService.getPost(firstPostId);
+        sqlCounter.reset();
+
+        // when
+        PostResponse response = postService.getPost(firstPostId);
+
+        // then
+        assertThat(response.getId()).isEqualTo(firstPostId);
+        assertThat(sqlCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 페이지 조회 + COUNT 쿼리 2번")
+    void getPosts_PageAndCountOnly() {
+        // when
+        Page<PostSummaryResponse> page = postService.getPosts(
+                null, null, PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // then
+        assertThat(page.getContent()).hasSize(6);
+        assertThat(page.getContent()).allSatisfy(post -> {
+            assertThat(post.getNickname()).startsWith("작성자");
+            assertThat(post.getCategoryName()).startsWith("카테고리");
+        });
+        assertThat(sqlCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 커서 목록 조회 - 쿼리 1번 (COUNT 없음)")
+    void scrollPosts_SingleQuery() {
+        // when
+        var response = postService.scrollPosts(null, null, null, 6);
+
+        // then
+        assertThat(response.getContent()).hasSize(6);
+        assertThat(sqlCounter.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.jyo.techblog.domain.post;
+
+import com.jyo.techblog.common.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex index = new PostSearchIndex();
+
+    @Test
+    @DisplayName("한글 부분 검색 - 제목에 나온 글이 본문에만 나온 글보다 먼저")
+    void search_RanksTitleHitsFirst() {
+        // given
+        index.index(1L, null, at(1), "일상 기록", "<p>오늘은 스프링 공부를 했다</p>");
+        index.index(2L, null, at(2), "스프링 트랜잭션 정리", "<p>전파 속성 정리</p>");
+        index.index(3L, null, at(3), "자바 기초", "<p>컬렉션 정리</p>");
+
+        // when
+        PostSearchIndex.Hits hits = index.search("스프링", null, 0, 10);
+
+        // then
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.postIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("HTML 태그는 색인하지 않고, 카테고리 필터 + 페이징 적용")
+    void search_IgnoresTagsAndAppliesCategoryAndPaging() {
+        // given
+        index.index(1L, 10L, at(1), "첫 글", "<div class=\"spring\">캐시 전략</div>");
+        index.index(2L, 10L, at(2), "둘째 글", "<p>캐시 무효화</p>");
+        index.index(3L, 20L, at(3), "셋째 글", "<p>캐시 워밍업</p>");
+
+        // when & then
+        assertThat(index.search("spring", null, 0, 10).total()).isZero();
+
+        PostSearchIndex.Hits firstPage = index.search("캐시", 10L, 0, 1);
+        assertThat(firstPage.total()).isEqualTo(2);
+        assertThat(firstPage.postIds()).containsExactly(2L);
+
+        PostSearchIndex.Hits secondPage = index.search("캐시", 10L, 1, 1);
+        assertThat(secondPage.postIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 이전 토큰이 남지 않음")
+    void reindexAndRemove() {
+        // given
+        index.index(1L, null, at(1), "JPA 입문", "<p>영속성 컨텍스트</p>");
+
+        // when
+        index.index(1L, null, at(1), "Hibernate 입문", "<p>영속성 컨텍스트</p>");
+
+        // then
+        assertThat(index.search("jpa", null, 0, 10).total()).isZero();
+        assertThat(index.search("hibernate", null, 0, 10).postIds()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("영속성", null, 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어 - 단어 안에 포함된 글자도 일치 (LIKE '%C%' 와 같게)")
+    void search_SingleCharacterMatchesInsideWords() {
+        // given
+        index.index(1L, null, at(1), "C 언어 포인터", "");
+        index.index(2L, null, at(2), "Scala 입문", "");
+        index.index(3L, null, at(3), "Java 기초", "<p>컬렉션 정리</p>");
+
+        // when & then
+        assertThat(index.search("c", null, 0, 10).postIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("렉", null, 0, 10).postIds()).containsExactly(3L);
+        assertThat(index.search("x", null, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - (createdAt, id) 내림차순으로 커서 이후 글만")
+    void scroll_ReturnsOlderPostsAfterCursor() {
+        // given
+        index.index(1L, null, at(1), "캐시 1", "");
+        index.index(2L, null, at(2), "캐시 2", "");
+        index.index(3L, null, at(3), "캐시 3", "");
+        index.index(4L, null, at(4), "다른 글", "");
+
+        // when
+        var firstPage = index.scroll("캐시", null, null, 2);
+        var nextPage = index.scroll("캐시", null, Cursor.of(at(2), 2L), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(3L, 2L);
+        assertThat(nextPage).containsExactly(1L);
+    }
+
+    private static LocalDateTime at(int minute) {
+        return LocalDateTime.of(2025, 1, 1, 0, minute);
+    }
+}
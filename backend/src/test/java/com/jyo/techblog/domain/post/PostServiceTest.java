@@ -43,6 +43,12 @@ class PostServiceTest {
     @Mock
     private CategoryRepository categoryRepository;  // 가짜 카테고리 리포지토리
 
+    @Mock
+    private PostSearchIndex postSearchIndex;  // 가짜 검색 색인
+
+    @Mock
+    private PostCache postCache;  // 가짜 게시글 캐시
+
     @Test
     @DisplayName("게시글 작성 성공")
     void createPost_Success() {
@@ -79,7 +85,7 @@ class PostServiceTest {
         // then (검증)
         assertThat(response.getId()).isEqualTo(100L);
         assertThat(response.getTitle()).isEqualTo("테스트 제목");
-        assertThat(response.getAuthorNickname()).isEqualTo("지호");
+        assertThat(response.getNickname()).isEqualTo("지호");
 
         // save 메서드가 실제로 호출되었는지 검증
         verify(postRepository).save(any(Post.class));
@@ -0,0 +1,95 @@
+package com.jyo.techblog.domain.postlike;
+
+import com.jyo.techblog.domain.post.Post;
+import com.jyo.techblog.domain.user.Role;
+import com.jyo.techblog.domain.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좋아요 단일 문장 추가/되살리기/취소가 유니크 제약 기준으로 멱등하게 동작하는지 (H2 MySQL 모드)
+ */
+@DataJpaTest
+class PostLikeRepositoryTest {
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long postId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.createUser("like@jyo.dev", "pw", "좋아요", Role.USER);
+        em.persist(user);
+        Post post = Post.createPost("제목", "<p>본문</p>", user, null);
+        em.persist(post);
+        em.flush();
+
+        postId = post.getId();
+        userId = user.getId();
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 - 여러 번 눌러도 한 행, 두 번째부터는 1이 아님")
+    void insertMemberLike_Idempotent() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 중복이면 MySQL(useAffectedRows) 0, H2 2 -> 서비스는 1(새로 추가)인지만 봄
+        assertThat(postLikeRepository.insertMemberLikeIfAbsent(postId, userId, now)).isEqualTo(1);
+        assertThat(postLikeRepository.insertMemberLikeIfAbsent(postId, userId, now)).isNotEqualTo(1);
+        assertThat(postLikeRepository.reviveMemberLike(postId, userId, now)).isZero();
+
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 취소 후 다시 누르면 같은 행을 되살림")
+    void cancelThenLike_RevivesSameRow() {
+        LocalDateTime now = LocalDateTime.now();
+        postLikeRepository.insertMemberLikeIfAbsent(postId, userId, now);
+
+        assertThat(postLikeRepository.cancelMemberLike(postId, userId, now)).isEqualTo(1);
+        assertThat(postLikeRepository.cancelMemberLike(postId, userId, now)).isZero();
+
+        assertThat(postLikeRepository.insertMemberLikeIfAbsent(postId, userId, now)).isNotEqualTo(1);
+        assertThat(postLikeRepository.reviveMemberLike(postId, userId, now)).isEqualTo(1);
+
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비회원 좋아요 - 같은 IP는 한 행, 다른 IP/회원 좋아요와는 충돌 X")
+    void insertGuestLike_UniquePerIp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(postLikeRepository.insertGuestLikeIfAbsent(postId, "1.1.1.1", now)).isEqualTo(1);
+        assertThat(postLikeRepository.insertGuestLikeIfAbsent(postId, "1.1.1.1", now)).isNotEqualTo(1);
+        assertThat(postLikeRepository.insertGuestLikeIfAbsent(postId, "2.2.2.2", now)).isEqualTo(1);
+        assertThat(postLikeRepository.insertMemberLikeIfAbsent(postId, userId, now)).isEqualTo(1);
+
+        assertThat(postLikeRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("없는 게시글 좋아요 - 중복이 아닌 오류는 무시되지 않고 예외")
+    void insertLike_MissingPostFails() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> postLikeRepository.insertMemberLikeIfAbsent(postId + 1000, userId, now))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
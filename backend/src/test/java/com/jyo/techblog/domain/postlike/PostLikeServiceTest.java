@@ -0,0 +1,174 @@
+package com.jyo.techblog.domain.postlike;
+
+import com.jyo.techblog.domain.post.PostCache;
+import com.jyo.techblog.domain.post.PostRepository;
+import com.jyo.techblog.domain.postlike.dto.PostLikeCount;
+import com.jyo.techblog.domain.postlike.dto.PostLikeResponse;
+import com.jyo.techblog.domain.postlike.dto.PostLikeStatusResponse;
+import com.jyo.techblog.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좋아요 수는 COUNT 쿼리 대신 posts.like_count 를 원자적으로 증감해서 관리
+ * - 좋아요 행 추가/되살리기/취소가 실제로 일어난 경우에만 카운터 변경
+ */
+@ExtendWith(MockitoExtension.class)
+class PostLikeServiceTest {
+
+    @InjectMocks
+    private PostLikeService postLikeService;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostCache postCache;
+
+    @Test
+    @DisplayName("회원 좋아요 - 새 좋아요면 like_count +1 후 최신 값 반환")
+    void likeAsMember_IncreasesCounter() {
+        // given
+        given(postLikeRepository.insertMemberLikeIfAbsent(eq(1L), eq(2L), any())).willReturn(1);
+        given(postRepository.findLikeCountById(1L)).willReturn(5L);
+
+        // when
+        PostLikeResponse response = postLikeService.likeAsMember(1L, 2L);
+
+        // then
+        assertThat(response.getLikeCount()).isEqualTo(5L);
+        assertThat(response.isLikedByMe()).isTrue();
+        verify(postLikeRepository, never()).reviveMemberLike(any(), any(), any());
+        verify(postRepository).increaseLikeCount(1L);
+        verify(postCache).evict(1L);
+        verify(postRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 - 취소했던 좋아요면 같은 행을 되살리고 like_count +1")
+    void likeAsMember_RevivesCancelledLike() {
+        // given
+        given(postLikeRepository.insertMemberLikeIfAbsent(eq(1L), eq(2L), any())).willReturn(0);
+        given(postLikeRepository.reviveMemberLike(eq(1L), eq(2L), any())).willReturn(1);
+        given(postRepository.findLikeCountById(1L)).willReturn(5L);
+
+        // when
+        PostLikeResponse response = postLikeService.likeAsMember(1L, 2L);
+
+        // then
+        assertThat(response.getLikeCount()).isEqualTo(5L);
+        verify(postRepository).increaseLikeCount(1L);
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 - 없는 게시글이면 FK 위반을 IllegalArgumentException 으로 변환")
+    void likeAsMember_MissingPost() {
+        // given
+        given(postLikeRepository.insertMemberLikeIfAbsent(eq(99L), eq(2L), any()))
+                .willThrow(new DataIntegrityViolationException("fk_post_like_post"));
+
+        // when & then
+        assertThatThrownBy(() -> postLikeService.likeAsMember(99L, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글 또는 사용자를 찾을 수 없습니다.");
+        verify(postRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("비회원 좋아요 - 이미 누른 IP면 카운터 변경 없이 현재 값 반환")
+    void likeAsGuest_AlreadyLiked() {
+        // given
+        given(postLikeRepository.insertGuestLikeIfAbsent(eq(1L), eq("1.1.1.1"), any())).willReturn(0);
+        given(postRepository.findLikeCountById(1L)).willReturn(7L);
+
+        // when
+        PostLikeResponse response = postLikeService.likeAsGuest(1L, "1.1.1.1");
+
+        // then
+        assertThat(response.getLikeCount()).isEqualTo(7L);
+        verify(postRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("비회원 좋아요 - 컬럼(45자)보다 긴 IP 는 잘리지 않도록 INSERT 전에 거부")
+    void likeAsGuest_RejectsOverlongIp() {
+        // when & then
+        assertThatThrownBy(() -> postLikeService.likeAsGuest(1L, "1.1.1.1".repeat(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(postLikeRepository, never()).insertGuestLikeIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 취소 - soft delete + like_count -1")
+    void cancelMemberLike_DecreasesCounter() {
+        // given
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(postLikeRepository.cancelMemberLike(eq(1L), eq(2L), any())).willReturn(1);
+        given(postRepository.findLikeCountById(1L)).willReturn(2L);
+
+        // when
+        PostLikeResponse response = postLikeService.cancelMemberLike(1L, 2L);
+
+        // then
+        assertThat(response.getLikeCount()).isEqualTo(2L);
+        assertThat(response.isLikedByMe()).isFalse();
+        verify(postRepository).decreaseLikeCount(1L);
+    }
+
+    @Test
+    @DisplayName("회원 좋아요 취소 - 활성 좋아요가 없으면 예외, 카운터 변경 X")
+    void cancelMemberLike_NotLiked() {
+        // given
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(postLikeRepository.cancelMemberLike(eq(1L), eq(2L), any())).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> postLikeService.cancelMemberLike(1L, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좋아요를 누른 이력이 없습니다.");
+        verify(postRepository, never()).decreaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("여러 글 좋아요 상태 - 요청 순서 유지, 없는 글 제외, 쿼리 2번")
+    void getStatuses_Batch() {
+        // given
+        given(postRepository.findLikeCountsByIdIn(List.of(3L, 1L, 99L)))
+                .willReturn(List.of(new PostLikeCount(1L, 5), new PostLikeCount(3L, 0)));
+        given(postLikeRepository.findLikedPostIdsByIp(anyCollection(), any()))
+                .willReturn(List.of(1L));
+
+        // when
+        List<PostLikeStatusResponse> statuses =
+                postLikeService.getStatuses(List.of(3L, 1L, 99L, 1L), null, "1.1.1.1");
+
+        // then
+        assertThat(statuses)
+                .extracting(s -> s.getPostId() + ":" + s.getLikeCount() + ":" + s.isLikedByMe())
+                .containsExactly("3:0:false", "1:5:true");
+        verify(postLikeRepository, never()).findLikedPostIdsByUser(anyCollection(), any());
+    }
+}
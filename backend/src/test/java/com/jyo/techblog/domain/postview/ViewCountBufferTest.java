@@ -0,0 +1,165 @@
+package com.jyo.techblog.domain.postview;
+
+import com.jyo.techblog.domain.post.PostCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PostCache postCache;
+
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ViewCountBuffer(jdbcTemplate, new TransactionTemplate(transactionManager), postCache);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 글별 한 줄씩 배치 UPDATE 로 반영")
+    void flush_BatchesPerPost() {
+        // given
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        // when
+        buffer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(args -> args[1] + "=" + args[0])
+                .containsExactlyInAnyOrder("1=3", "2=1");
+
+        // 반영된 글은 캐시된 상세 응답의 조회수만 올림 (무효화 X)
+        verify(postCache).addViewCount(1L, 3L);
+        verify(postCache).addViewCount(2L, 1L);
+        verify(postCache, never()).evict(anyLong());
+
+        // 반영 후 새 조회가 없으면 UPDATE 안 함
+        buffer.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 누적분 유지 후 다음 주기에 재시도")
+    void flush_RetriesAfterFailure() {
+        // given
+        buffer.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[]{1});
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+        buffer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue().get(0)[0]).isEqualTo(2L);
+        verify(postCache, times(1)).addViewCount(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("flush 가 한가한 글을 정리하는 중에 조회가 들어와도 유실 X")
+    void flush_DoesNotLoseViewsWhileEvictingIdleEntries() throws Exception {
+        // given: 호출 기록을 남기지 않는 mock (flush 를 수십만 번 돌리므로)
+        JdbcTemplate jdbc = mock(JdbcTemplate.class, withSettings().stubOnly());
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbc,
+                new TransactionTemplate(mock(PlatformTransactionManager.class, withSettings().stubOnly())),
+                mock(PostCache.class, withSettings().stubOnly()));
+
+        LongAdder flushed = new LongAdder();
+        given(jdbc.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> flushed.add((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+
+        try {
+            // flush 를 쉬지 않고 돌려서 조회가 드문 글이 계속 정리 대상이 되게 함
+            Future<?> flusher = executor.submit(() -> {
+                while (running.get()) {
+                    buffer.flush();
+                }
+            });
+
+            // when
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                viewers.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        buffer.increment((long) (i % 1024));
+                    }
+                }));
+            }
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+            running.set(false);
+            flusher.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.flush();
+
+        // then
+        assertThat(flushed.sum()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("조회가 없으면 DB 접근 X")
+    void flush_NothingPending() {
+        buffer.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
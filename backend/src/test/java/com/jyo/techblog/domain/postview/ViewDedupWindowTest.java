@@ -0,0 +1,72 @@
+package com.jyo.techblog.domain.postview;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewDedupWindowTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    private ViewDedupWindow window;
+
+    @BeforeEach
+    void setUp() {
+        window = new ViewDedupWindow(Duration.ofMinutes(10), 10, 10_000, 0.01, now::get);
+    }
+
+    @Test
+    @DisplayName("쿨타임 안 재조회는 중복, 다른 IP/다른 글은 새 조회")
+    void markIfAbsent_WithinCooldown() {
+        assertThat(window.markIfAbsent(1L, "1.1.1.1")).isTrue();
+
+        now.addAndGet(Duration.ofMinutes(9).toMillis());
+
+        assertThat(window.markIfAbsent(1L, "1.1.1.1")).isFalse();
+        assertThat(window.markIfAbsent(1L, "2.2.2.2")).isTrue();
+        assertThat(window.markIfAbsent(2L, "1.1.1.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("쿨타임 + 한 구간이 지나면 다시 집계")
+    void markIfAbsent_AfterCooldown() {
+        assertThat(window.markIfAbsent(1L, "1.1.1.1")).isTrue();
+
+        now.addAndGet(Duration.ofMinutes(11).toMillis());
+
+        assertThat(window.markIfAbsent(1L, "1.1.1.1")).isTrue();
+        assertThat(window.markIfAbsent(1L, "1.1.1.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 조회 수만큼 채워도 실제 오판율이 목표치 근처에 머묾")
+    void falsePositiveRate_StaysNearTarget() {
+        // 구간마다 예상 조회 수(10,000)만큼 채움
+        for (int slice = 0; slice < 11; slice++) {
+            for (int i = 0; i < 10_000; i++) {
+                window.markIfAbsent(slice * 10_000L + i, "10.0.0.1");
+            }
+            now.addAndGet(Duration.ofMinutes(1).toMillis());
+        }
+        now.addAndGet(-Duration.ofMinutes(1).toMillis());
+
+        // 한 번도 안 본 키 중 중복으로 오판된 비율
+        int falsePositives = 0;
+        int trials = 2_000;
+        for (int i = 0; i < trials; i++) {
+            if (!window.markIfAbsent(1_000_000L + i, "192.168.0.1")) {
+                falsePositives++;
+            }
+        }
+
+        // 목표치 1% (샘플 오차 + 마지막 구간 초과 적재 감안)
+        assertThat((double) falsePositives / trials).isLessThan(0.025);
+        assertThat(window.expectedFalsePositiveRate()).isLessThan(0.02);
+        assertThat(window.memoryBytes()).isLessThan(11 * 20 * 1024);
+    }
+}
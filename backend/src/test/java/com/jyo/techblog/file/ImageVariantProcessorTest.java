@@ -0,0 +1,210 @@
+package com.jyo.techblog.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalObjectStorage storage;
+    private ImageVariantProcessor processor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(dir.toString(), "/files", DataSize.ofMegabytes(50));
+        processor = new ImageVariantProcessor(storage, 2, 16, Duration.ofSeconds(10), 40_000_000, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.close();
+    }
+
+    @Test
+    @DisplayName("큰 이미지 - 모든 버전을 원본 옆 키에 폭 맞춰 저장")
+    void process_CreatesAllVariants() throws IOException {
+        // given
+        storage.put("images/a.png", "image/png", png(2000, 1000));
+
+        // when
+        ImageVariantProcessor.Result result = processor.process("images/a.png", "image/png");
+        Map<ImageVariant, String> variants = result.keys();
+
+        // then
+        assertThat(result.complete()).isTrue();
+        assertThat(variants).containsOnlyKeys(ImageVariant.values());
+        assertThat(variants.get(ImageVariant.THUMBNAIL)).isEqualTo("images/a_w320.png");
+
+        BufferedImage thumbnail = ImageIO.read(dir.resolve("images/a_w320.png").toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+
+        BufferedImage content = ImageIO.read(dir.resolve("images/a_w1280.png").toFile());
+        assertThat(content.getWidth()).isEqualTo(1280);
+    }
+
+    @Test
+    @DisplayName("버전들은 병렬로 생성 - 세 버전의 저장이 동시에 진행됨")
+    void process_CreatesVariantsInParallel() throws IOException {
+        // given: 세 버전이 모두 저장 단계에 들어와야 통과하는 저장소 (하나씩 만들면 대기 시간 초과로 실패)
+        storage.put("images/p.png", "image/png", png(2000, 1000));
+        CyclicBarrier allStoring = new CyclicBarrier(ImageVariant.values().length);
+        ObjectStorage barrier = new ObjectStorage() {
+            @Override
+            public StoredObject store(String keyPrefix, String extension, String contentType, InputStream in)
+                    throws IOException {
+                return storage.store(keyPrefix, extension, contentType, in);
+            }
+
+            @Override
+            public void put(String key, String contentType, byte[] content) throws IOException {
+                try {
+                    allStoring.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IOException("다른 버전 저장을 기다리다 실패", e);
+                }
+                storage.put(key, contentType, content);
+            }
+
+            @Override
+            public InputStream open(String key) throws IOException {
+                return storage.open(key);
+            }
+
+            @Override
+            public String urlFor(String key) {
+                return storage.urlFor(key);
+            }
+        };
+        ImageVariantProcessor parallel = new ImageVariantProcessor(barrier, 1, 1, Duration.ofSeconds(10), 40_000_000, 2);
+
+        try {
+            // when
+            ImageVariantProcessor.Result result = parallel.process("images/p.png", "image/png");
+
+            // then
+            assertThat(result.complete()).isTrue();
+            assertThat(result.keys()).containsOnlyKeys(ImageVariant.values());
+        } finally {
+            parallel.close();
+        }
+    }
+
+    @Test
+    @DisplayName("원본보다 넓은 버전은 만들지 않음")
+    void process_SkipsUpscale() throws IOException {
+        // given
+        storage.put("images/b.png", "image/png", png(500, 400));
+
+        // when
+        ImageVariantProcessor.Result result = processor.process("images/b.png", "image/png");
+
+        // then: 만들 수 있는 건 썸네일뿐이라 그것만으로 완료
+        assertThat(result.complete()).isTrue();
+        assertThat(result.keys()).containsOnlyKeys(ImageVariant.THUMBNAIL);
+        assertThat(Files.exists(dir.resolve("images/b_w640.png"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIF 등 지원하지 않는 형식은 원본만")
+    void process_IgnoresUnsupportedType() {
+        assertThat(processor.process("images/c.gif", "image/gif").keys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작업 풀이 가득 차면 예외 없이 버전 생성만 건너뜀")
+    void process_SkipsWhenPoolFull() throws Exception {
+        // given: 스레드 1개 + 대기열 1칸, 원본 읽기가 풀릴 때까지 멈춰 있는 저장소
+        storage.put("images/d.png", "image/png", png(800, 600));
+        CountDownLatch release = new CountDownLatch(1);
+        ObjectStorage blocking = new ObjectStorage() {
+            @Override
+            public StoredObject store(String keyPrefix, String extension, String contentType, InputStream in)
+                    throws IOException {
+                return storage.store(keyPrefix, extension, contentType, in);
+            }
+
+            @Override
+            public void put(String key, String contentType, byte[] content) throws IOException {
+                storage.put(key, contentType, content);
+            }
+
+            @Override
+            public InputStream open(String key) throws IOException {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return storage.open(key);
+            }
+
+            @Override
+            public String urlFor(String key) {
+                return storage.urlFor(key);
+            }
+        };
+        ImageVariantProcessor small = new ImageVariantProcessor(blocking, 1, 1, Duration.ofMillis(50), 40_000_000, 4);
+
+        try {
+            // when: 실행 중 1개 + 대기 1개 -> 세 번째는 거절
+            assertThat(small.process("images/d.png", "image/png").complete()).isFalse();
+            assertThat(small.process("images/d.png", "image/png").complete()).isFalse();
+            ImageVariantProcessor.Result rejected = small.process("images/d.png", "image/png");
+
+            // then: 예산 초과/거절은 미완료로 표시 (호출한 쪽이 캐시하지 않도록)
+            assertThat(rejected.keys()).isEmpty();
+            assertThat(rejected.complete()).isFalse();
+
+            // 앞서 받은 작업은 풀린 뒤 정상적으로 버전 저장
+            release.countDown();
+            assertThat(awaitFile(dir.resolve("images/d_w320.png"))).isTrue();
+        } finally {
+            release.countDown();
+            small.close();
+        }
+    }
+
+    @Test
+    @DisplayName("버전 키 규칙 - 확장자 앞에 _w{폭}")
+    void keyFor() {
+        assertThat(ImageVariant.CARD.keyFor("images/x.jpg")).isEqualTo("images/x_w640.jpg");
+        assertThat(ImageVariant.CARD.keyFor("images/x")).isEqualTo("images/x_w640");
+    }
+
+    private static boolean awaitFile(Path path) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Files.exists(path) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return Files.exists(path);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,145 @@
+package com.jyo.techblog.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileControllerTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path dir;
+
+    private LocalObjectStorage storage;
+    private LocalFileController controller;
+    private String key;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalObjectStorage(dir.toString(), "/files", DataSize.ofMegabytes(1));
+        controller = new LocalFileController(storage);
+        key = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(CONTENT)).key();
+    }
+
+    @Test
+    @DisplayName("저장 - 내용 해시 키, 같은 내용은 한 번만 저장")
+    void store_ContentAddressed() throws Exception {
+        StoredObject again = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(CONTENT));
+
+        assertThat(again.key()).isEqualTo(key);
+        assertThat(again.deduplicated()).isTrue();
+        assertThat(storage.urlFor(key)).isEqualTo("/files/" + key);
+    }
+
+    @Test
+    @DisplayName("전체 조회 - 200 + ETag + immutable 캐시")
+    void serve_Full() throws Exception {
+        MockHttpServletResponse response = serve(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isNull();
+    }
+
+    @Test
+    @DisplayName("허용 형식이 아닌 파일 - 확장자와 상관없이 octet-stream 다운로드로만 응답")
+    void serve_NonImageAsAttachment() throws Exception {
+        for (String extension : new String[]{".svg", ".html", ""}) {
+            String other = storage.store("images/", extension, "image/png", new ByteArrayInputStream(CONTENT)).key();
+
+            MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", "/files/" + other));
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentType()).isEqualTo("application/octet-stream");
+            assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("attachment");
+            assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+        }
+    }
+
+    @Test
+    @DisplayName("Range - 206 + 요청 구간만")
+    void serve_Range() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+    }
+
+    @Test
+    @DisplayName("범위 밖 Range - 416")
+    void serve_UnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 - 304, 본문 없음")
+    void serve_NotModified() throws Exception {
+        String eTag = serve(get()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 컨테이너 - 본문 대신 파일 경로/구간만 넘김")
+    void serve_Sendfile() throws Exception {
+        MockHttpServletRequest request = get();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(dir.resolve(key).toAbsolutePath().normalize().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("없는 파일 404, 저장 디렉터리 밖 경로는 거부")
+    void serve_NotFoundAndTraversal() throws Exception {
+        assertThat(serve(new MockHttpServletRequest("GET", "/files/images/none.png")).getStatus()).isEqualTo(404);
+        assertThatThrownBy(() -> serve(new MockHttpServletRequest("GET", "/files/../secret.txt")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/files/" + key);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(request, response);
+        return response;
+    }
+}
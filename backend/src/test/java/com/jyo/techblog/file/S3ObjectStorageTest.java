@@ -0,0 +1,215 @@
+package com.jyo.techblog.file;
+
+import com.jyo.techblog.support.InMemoryS3Client;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3ObjectStorageTest {
+
+    private static final int PART = 5 * 1024 * 1024;
+
+    private final InMemoryS3Client s3 = new InMemoryS3Client();
+    private final S3ObjectStorage storage = new S3ObjectStorage(
+            s3, "bucket", DataSize.ofBytes(PART), 1, DataSize.ofMegabytes(12),
+            Duration.ofMillis(100), Duration.ofMillis(300), 100);
+
+    @Test
+    @DisplayName("파트 하나보다 작은 파일 - PutObject 한 번")
+    void upload_SmallFileSinglePut() throws Exception {
+        byte[] data = randomBytes(1000);
+
+        StoredObject stored = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(data));
+
+        assertThat(stored.size()).isEqualTo(1000);
+        assertThat(stored.key()).isEqualTo("images/" + sha256(data) + ".png");
+        assertThat(s3.object(stored.key())).isEqualTo(data);
+        assertThat(s3.partCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큰 파일 - 파트 크기 단위로 나눠 올리고 순서대로 합쳐짐")
+    void upload_LargeFileMultipart() throws Exception {
+        byte[] data = randomBytes(PART * 2 + 123);
+
+        StoredObject stored = storage.store("images/", ".gif", "image/gif", new ByteArrayInputStream(data));
+
+        assertThat(stored.size()).isEqualTo(data.length);
+        assertThat(stored.key()).isEqualTo("images/" + sha256(data) + ".gif");
+        assertThat(s3.object(stored.key())).isEqualTo(data);
+        assertThat(s3.partCount()).isEqualTo(3);
+        assertThat(s3.objects()).hasSize(1);  // staging 객체는 삭제됨
+        assertThat(storage.buffersInUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 내용 다시 업로드 - PUT 없이 같은 키")
+    void upload_DeduplicatesSmallFile() throws Exception {
+        byte[] data = randomBytes(1000);
+        StoredObject first = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(data));
+
+        StoredObject second = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(data));
+
+        assertThat(first.deduplicated()).isFalse();
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(s3.putCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 파일 중복 - 마지막에 multipart abort, 객체 하나만 남음")
+    void upload_DeduplicatesLargeFile() throws Exception {
+        byte[] data = randomBytes(PART + 10);
+        StoredObject first = storage.store("images/", ".gif", "image/gif", new ByteArrayInputStream(data));
+
+        StoredObject second = storage.store("images/", ".gif", "image/gif", new ByteArrayInputStream(data));
+
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(s3.abortCount()).isEqualTo(1);
+        assertThat(s3.objects()).containsOnlyKeys(first.key());
+    }
+
+    @Test
+    @DisplayName("메모리 인덱스에 없어도 S3에 있으면 중복 처리")
+    void upload_DeduplicatesAgainstExistingObject() throws Exception {
+        byte[] data = randomBytes(1000);
+        s3.putObject("images/" + sha256(data) + ".png", data);
+
+        StoredObject stored = storage.store("images/", ".png", "image/png", new ByteArrayInputStream(data));
+
+        assertThat(stored.deduplicated()).isTrue();
+        assertThat(s3.putCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("s3:ListBucket 권한이 없어 HeadObject 가 403 이면 권한 안내 메시지로 실패")
+    void exists_ForbiddenWithoutListBucket() {
+        InMemoryS3Client noList = new InMemoryS3Client().withoutListBucket();
+        S3ObjectStorage restricted = new S3ObjectStorage(
+                noList, "bucket", DataSize.ofBytes(PART), 1, DataSize.ofMegabytes(12),
+                Duration.ofMillis(100), Duration.ofMillis(300), 100);
+
+        assertThatThrownBy(() -> restricted.exists("images/missing.png"))
+                .isInstanceOf(S3Exception.class)
+                .hasMessageContaining("s3:ListBucket");
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 - multipart upload abort, 객체 안 남음")
+    void upload_AbortsOverMaxSize() {
+        byte[] data = randomBytes(PART * 3);
+
+        assertThatThrownBy(() -> storage.store("images/", ".png", "image/png", new ByteArrayInputStream(data)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(s3.objects()).isEmpty();
+        assertThat(s3.abortCount()).isEqualTo(1);
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(storage.buffersInUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 모두 사용 중이면 기다리다 503 예외")
+    void upload_RejectsWhenBuffersExhausted() throws Exception {
+        // given: 버퍼 1개를 본문이 끝나지 않는 업로드가 잡고 있음
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slowBody = new InputStream() {
+            @Override
+            public int read() {
+                return read(new byte[1], 0, 1);
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        };
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                storage.store("images/", ".png", "image/png", slowBody);
+            } catch (Exception ignored) {
+            }
+        });
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> storage.store("images/", ".png", "image/png", new ByteArrayInputStream(new byte[10])))
+                .isInstanceOf(UploadBufferBusyException.class);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(storage.buffersInUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("본문이 조금씩 느리게 들어오면 part-read-timeout 에 중단, 버퍼 반납 + multipart abort")
+    void upload_AbortsSlowBody() {
+        // given: 첫 파트는 바로 채우고, 두 번째 파트는 10ms 마다 1바이트씩
+        byte[] firstPart = randomBytes(PART);
+        InputStream trickle = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                return read(new byte[1], 0, 1) < 0 ? -1 : 0;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (position < PART) {
+                    int n = Math.min(len, PART - position);
+                    System.arraycopy(firstPart, position, b, off, n);
+                    position += n;
+                    return n;
+                }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                b[off] = 1;
+                return 1;
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> storage.store("images/", ".gif", "image/gif", trickle))
+                .isInstanceOf(UploadTimeoutException.class);
+
+        assertThat(storage.buffersInUse()).isZero();
+        assertThat(s3.abortCount()).isEqualTo(1);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,178 @@
+package com.jyo.techblog.support;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 S3 대역 (메모리에 객체 저장)
+ * - Put/Get/Head/Copy/DeleteObject, multipart upload (create, uploadPart, complete, abort) 만 지원
+ * - listBucket = false 면 실제 S3 처럼 없는 키 HeadObject 에 404 대신 403
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, TreeMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+    private int putCount;
+    private int partCount;
+    private int abortCount;
+    private boolean listBucket = true;
+
+    // s3:ListBucket 권한이 없는 자격 증명 흉내
+    public InMemoryS3Client withoutListBucket() {
+        this.listBucket = false;
+        return this;
+    }
+
+    public byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    public int putCount() {
+        return putCount;
+    }
+
+    public Map<String, byte[]> objects() {
+        return objects;
+    }
+
+    public int partCount() {
+        return partCount;
+    }
+
+    public int abortCount() {
+        return abortCount;
+    }
+
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        objects.put(request.key(), read(body));
+        putCount++;
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        byte[] object = objects.get(request.key());
+        if (object == null) {
+            throw NoSuchKeyException.builder().message(request.key()).build();
+        }
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) object.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(object)));
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        byte[] object = objects.get(request.key());
+        if (object == null && !listBucket) {
+            throw S3Exception.builder().message("Forbidden").statusCode(403).build();
+        }
+        if (object == null) {
+            throw NoSuchKeyException.builder().message(request.key()).statusCode(404).build();
+        }
+        return HeadObjectResponse.builder().contentLength((long) object.length).build();
+    }
+
+    @Override
+    public CopyObjectResponse copyObject(CopyObjectRequest request) {
+        objects.put(request.destinationKey(), objects.get(request.sourceKey()));
+        return CopyObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    public void putObject(String key, byte[] object) {
+        objects.put(key, object);
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new TreeMap<>());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(request.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        uploads.get(request.uploadId()).put(request.partNumber(), read(body));
+        partCount++;
+        return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        TreeMap<Integer, byte[]> parts = uploads.remove(request.uploadId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            out.writeBytes(parts.get(part.partNumber()));
+        }
+        objects.put(request.key(), out.toByteArray());
+        return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        abortCount++;
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static byte[] read(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jyo.techblog.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JDBC 배치 실행을 세는 테스트용 DataSource 래퍼
+ * - Hibernate 통계(prepareStatement 수)로는 배치가 쪼개졌는지 알 수 없어서 executeBatch / addBatch 를 직접 기록
+ */
+public class JdbcBatchCounter {
+
+    private final List<Execution> executions = new CopyOnWriteArrayList<>();
+
+    public DataSource wrap(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return connection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return connection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    public void reset() {
+        executions.clear();
+    }
+
+    /**
+     * sql 에 text 가 들어간 문장의 executeBatch 횟수
+     */
+    public long batches(String text) {
+        return matching(text).stream().filter(Execution::batch).count();
+    }
+
+    /**
+     * sql 에 text 가 들어간 문장의 배치로 보낸 행 수 (addBatch 합)
+     */
+    public long batchedRows(String text) {
+        return matching(text).stream().filter(Execution::batch).mapToLong(Execution::rows).sum();
+    }
+
+    /**
+     * sql 에 text 가 들어간 문장의 배치가 아닌 단건 실행 횟수
+     */
+    public long singleExecutions(String text) {
+        return matching(text).stream().filter(execution -> !execution.batch()).count();
+    }
+
+    private List<Execution> matching(String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        return executions.stream()
+                .filter(execution -> execution.sql().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
+    }
+
+    private Connection connection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (method.getName().equals("prepareStatement")) {
+                        return statement((PreparedStatement) result, (String) args[0]);
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private PreparedStatement statement(PreparedStatement target, String sql) {
+        int[] pendingRows = {0};
+        return (PreparedStatement) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("addBatch")) {
+                        pendingRows[0]++;
+                    } else if (name.equals("clearBatch")) {
+                        pendingRows[0] = 0;
+                    } else if (name.equals("executeBatch")) {
+                        executions.add(new Execution(sql, true, pendingRows[0]));
+                        pendingRows[0] = 0;
+                    } else if (name.startsWith("execute")) {
+                        executions.add(new Execution(sql, false, 1));
+                    }
+                    return invoke(target, method, args);
+                }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record Execution(String sql, boolean batch, int rows) {
+    }
+}
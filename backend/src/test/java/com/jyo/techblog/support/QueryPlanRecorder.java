@@ -0,0 +1,141 @@
+package com.jyo.techblog.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행되는 SELECT/UPDATE/DELETE 마다 같은 파라미터로 EXPLAIN 을 먼저 돌려 실행 계획을 모아두는 테스트용 DataSource 래퍼
+ * - H2: 풀 스캔이면 계획에 "{테이블}.tableScan" 이 찍힘
+ * - MySQL: type = ALL 이면서 쓸 수 있는 인덱스(possible_keys)도 없는 테이블 접근을 풀 스캔으로 봄
+ *   (테스트 데이터가 작으면 인덱스가 있어도 옵티마이저가 ALL 을 고를 수 있어서, 선택 결과가 아니라 후보 유무로 판단)
+ */
+public class QueryPlanRecorder {
+
+    private final List<QueryPlan> plans = new CopyOnWriteArrayList<>();
+
+    public DataSource wrap(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return connection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return connection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    public void reset() {
+        plans.clear();
+    }
+
+    public List<QueryPlan> plans() {
+        return List.copyOf(plans);
+    }
+
+    private Connection connection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (method.getName().equals("prepareStatement") && explainable((String) args[0])) {
+                        return Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class<?>[]{PreparedStatement.class},
+                                new StatementHandler(target, (PreparedStatement) result, (String) args[0])
+                        );
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private static boolean explainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("update") || head.startsWith("delete");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final PreparedStatement target;
+        private final String sql;
+        private final Map<Integer, Binding> bindings = new TreeMap<>();
+
+        private StatementHandler(Connection connection, PreparedStatement target, String sql) {
+            this.connection = connection;
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute")) {
+                plans.add(explain());
+            }
+            return QueryPlanRecorder.invoke(target, method, args);
+        }
+
+        private QueryPlan explain() throws Throwable {
+            boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Binding binding : bindings.values()) {
+                    QueryPlanRecorder.invoke(explain, binding.method(), binding.args());
+                }
+                List<String> rows = new ArrayList<>();
+                boolean fullScan = false;
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        if (mysql) {
+                            rows.add("table=" + rs.getString("table") + " type=" + rs.getString("type")
+                                    + " possible_keys=" + rs.getString("possible_keys") + " key=" + rs.getString("key")
+                                    + " extra=" + rs.getString("Extra"));
+                            fullScan |= "ALL".equals(rs.getString("type")) && rs.getString("possible_keys") == null;
+                        } else {
+                            rows.add(rs.getString(1));
+                            fullScan |= rs.getString(1).contains(".tableScan");
+                        }
+                    }
+                }
+                return new QueryPlan(sql, String.join("\n", rows), fullScan);
+            }
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+
+    public record QueryPlan(String sql, String plan, boolean fullScan) {
+    }
+}
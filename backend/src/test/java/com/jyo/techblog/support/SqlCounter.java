@@ -0,0 +1,28 @@
+package com.jyo.techblog.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 테스트에서 실행된 SQL 문 개수를 세기 위한 헬퍼 (Hibernate 통계 기반)
+ * - N+1 같은 쿼리 수 회귀를 테스트 실패로 잡기 위함
+ */
+public class SqlCounter {
+
+    private final Statistics statistics;
+
+    public SqlCounter(EntityManager entityManager) {
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -88,17 +88,6 @@ export default function Home() {
     window.scrollTo({ top: 0, behavior: 'smooth' });
   };
 
-  // HTML 태그 제거 및 말줄임 처리 함수
-  const stripHtmlAndTruncate = (html, maxLength = 100) => {
-    if (!html) return '';
-    const text = html.replace(/<[^>]*>?/gm, '');
-    const cleanText = text.replace(/&nbsp;/g, ' ').trim();
-    if (cleanText.length > maxLength) {
-      return cleanText.substring(0, maxLength) + '...';
-    }
-    return cleanText;
-  };
-
   return (
     <div className="min-h-screen bg-slate-50">
       <main className="container mx-auto px-4 py-12 max-w-5xl">
@@ -183,7 +172,7 @@ export default function Home() {
                       </h2>
 
                       <p className="text-slate-600 text-sm leading-relaxed mb-6 flex-1 line-clamp-3 break-keep">
-                        {stripHtmlAndTruncate(post.content, 120)}
+                        {post.excerpt}
                       </p>
 
                       <div className="flex items-center justify-between pt-4 border-t border-slate-100 mt-auto">
@@ -192,6 +181,7 @@ export default function Home() {
                         </div>
                         <div className="flex items-center gap-3 text-xs text-slate-400">
                           <span>👀 {post.viewCount}</span>
+                          <span>❤️ {post.likeCount}</span>
                         </div>
                       </div>
                     </div>
@@ -5,6 +5,8 @@ import api from '@/lib/axios';
 
 export default function CommentSection({ postId }) {
   const [comments, setComments] = useState([]);
+  const [totalCount, setTotalCount] = useState(0);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
 
   // 댓글 작성 폼 상태
@@ -14,13 +16,14 @@ export default function CommentSection({ postId }) {
     content: '',
   });
 
-  // 댓글 목록 불러오기
+  // 댓글 목록 불러오기 (커서 페이징: 첫 페이지)
   const fetchComments = useCallback(async () => {
     try {
-      // API 경로 확인 필요: GET /api/posts/{postId}/comments
-      // 만약 백엔드가 /api/comments?postId=1 형식이면 수정 필요
+      // GET /api/posts/{postId}/comments -> { content, nextCursor, hasNext, totalCount }
       const response = await api.get(`/posts/${postId}/comments`);
-      setComments(response.data.content || response.data); // Page 객체일 경우 content, List일 경우 바로 data
+      setComments(response.data.content);
+      setTotalCount(response.data.totalCount);
+      setNextCursor(response.data.hasNext ? response.data.nextCursor : null);
     } catch (err) {
       console.error('댓글 로딩 실패:', err);
     } finally {
@@ -28,6 +31,20 @@ export default function CommentSection({ postId }) {
     }
   }, [postId]);
 
+  // 댓글 더 보기 (이전 응답의 nextCursor 로 다음 페이지)
+  const loadMore = async () => {
+    try {
+      const response = await api.get(`/posts/${postId}/comments`, {
+        params: { cursor: nextCursor },
+      });
+      setComments((prev) => [...prev, ...response.data.content]);
+      setTotalCount(response.data.totalCount);
+      setNextCursor(response.data.hasNext ? response.data.nextCursor : null);
+    } catch (err) {
+      console.error('댓글 로딩 실패:', err);
+    }
+  };
+
   useEffect(() => {
     fetchComments();
   }, [fetchComments]);
@@ -86,7 +103,7 @@ export default function CommentSection({ postId }) {
   return (
     <div className="mt-16 border-t border-slate-200 pt-10">
       <h3 className="text-2xl font-bold text-slate-900 mb-8">
-        댓글 <span className="text-blue-600">{comments.length}</span>
+        댓글 <span className="text-blue-600">{totalCount}</span>
       </h3>
 
       {/* 1. 댓글 작성 폼 */}
@@ -164,6 +181,16 @@ export default function CommentSection({ postId }) {
             아직 작성된 댓글이 없습니다. 첫 번째 댓글을 남겨주세요!
           </div>
         )}
+
+        {nextCursor && (
+          <button
+            type="button"
+            onClick={loadMore}
+            className="w-full py-3 text-sm text-slate-500 border border-slate-200 rounded-md hover:bg-slate-50"
+          >
+            댓글 더 보기
+          </button>
+        )}
       </div>
     </div>
   );
@@ -27,16 +27,11 @@ export default function Editor({ value, onChange }) {
       const file = input.files ? input.files[0] : null;
       if (!file) return;
 
-      // 3. 백엔드로 업로드 (FormData 사용)
-      const formData = new FormData();
-      formData.append('file', file);
-
+      // 3. 백엔드로 업로드 (파일 바이트를 본문에 그대로 -> 서버가 S3로 스트리밍)
       try {
-        // 백엔드 엔드포인트 확인 필요: ImageController의 @PostMapping 확인
-        // 보통 POST /api/images 혹은 /api/files/upload 입니다.
-        // 지호님 코드 기준: ImageController가 있다면 해당 경로 사용
-        const res = await api.post('/files/images', formData, {
-          headers: { 'Content-Type': 'multipart/form-data' },
+        const res = await api.post('/files/images/stream', file, {
+          headers: { 'Content-Type': file.type || 'application/octet-stream' },
+          params: { filename: file.name },
         });
 
         // 4. 받아온 S3 URL을 에디터에 삽입